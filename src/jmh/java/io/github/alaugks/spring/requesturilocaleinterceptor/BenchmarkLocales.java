@@ -0,0 +1,37 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+final class BenchmarkLocales {
+
+    static final Locale DEFAULT_LOCALE = Locale.forLanguageTag("en");
+    static final Locale MATCHED_LOCALE = Locale.forLanguageTag("de");
+
+    private BenchmarkLocales() {
+    }
+
+    /**
+     * Returns {@code count} distinct supported locales. The default and the
+     * matched locale are placed at the end of the list, so list based
+     * lookups pay the full scan.
+     */
+    static List<Locale> supportedLocales(int count) {
+        Set<Locale> locales = new LinkedHashSet<>();
+        Arrays.stream(Locale.getAvailableLocales())
+            .filter(l -> !l.getLanguage().isEmpty() && l.getVariant().isEmpty() && !l.hasExtensions())
+            .filter(l -> !l.equals(DEFAULT_LOCALE) && !l.equals(MATCHED_LOCALE))
+            .sorted((a, b) -> a.toLanguageTag().compareTo(b.toLanguageTag()))
+            .limit(count - 2L)
+            .forEach(locales::add);
+        locales.add(DEFAULT_LOCALE);
+        locales.add(MATCHED_LOCALE);
+        return List.copyOf(locales);
+    }
+}
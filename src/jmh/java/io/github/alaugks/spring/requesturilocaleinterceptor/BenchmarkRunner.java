@@ -0,0 +1,30 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks with the {@link GCProfiler} always attached, so
+ * every result reports throughput together with the bytes allocated per
+ * operation ({@code gc.alloc.rate.norm}).
+ * <p>Accepts the regular JMH command line arguments, e.g. a benchmark name
+ * pattern or {@code -f 1 -wi 2 -i 3}.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(
+            new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
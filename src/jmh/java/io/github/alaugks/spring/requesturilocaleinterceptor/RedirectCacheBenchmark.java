@@ -0,0 +1,88 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link RequestURILocaleProcessor#redirect} with and without a
+ * {@link RedirectCache}, i.e. a cache hit against computing the location.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedirectCacheBenchmark {
+
+    public enum Scenario {
+        UNSUPPORTED_LOCALE("/xx/products/shoes", "color=red", null),
+        FALLBACK_LOCALE("/yy/products/shoes", "color=red", null),
+        ACCEPT_LANGUAGE("/xx/products/shoes", "color=red", "de-DE,de;q=0.9,en;q=0.8");
+
+        final String requestUri;
+        final String queryString;
+        final String acceptLanguage;
+
+        Scenario(String requestUri, String queryString, String acceptLanguage) {
+            this.requestUri = requestUri;
+            this.queryString = queryString;
+            this.acceptLanguage = acceptLanguage;
+        }
+    }
+
+    @Param({"2", "200"})
+    int supportedLocales;
+
+    @Param
+    Scenario scenario;
+
+    @Param({"false", "true"})
+    boolean redirectCache;
+
+    RequestURILocaleProcessor processor;
+    LocaleSettings settings;
+    int localeEnd;
+
+    @Setup
+    public void setup() {
+        RequestURILocaleInterceptor.Builder builder = RequestURILocaleInterceptor
+            .builder(BenchmarkLocales.DEFAULT_LOCALE)
+            .supportedLocales(BenchmarkLocales.supportedLocales(this.supportedLocales))
+            .fallback(Locale.forLanguageTag("yy"), BenchmarkLocales.MATCHED_LOCALE)
+            .acceptLanguageRedirect(this.scenario.acceptLanguage != null)
+            .defaultRequestURI("/%s/home");
+        if (this.redirectCache) {
+            builder.redirectCache(new RedirectCache(1000));
+        }
+
+        this.processor = new RequestURILocaleProcessor(builder);
+        this.settings = this.processor.settings();
+        this.localeEnd = this.processor.localeEnd(this.scenario.requestUri);
+    }
+
+    @Benchmark
+    public String redirect() {
+        return this.processor.redirect(
+            this.settings,
+            this.scenario.requestUri,
+            this.localeEnd,
+            this.scenario.queryString,
+            this.scenario.acceptLanguage
+        );
+    }
+}
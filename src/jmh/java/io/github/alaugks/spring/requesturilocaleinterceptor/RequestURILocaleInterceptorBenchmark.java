@@ -0,0 +1,98 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.DispatcherServlet;
+
+/**
+ * Benchmarks {@link RequestURILocaleInterceptor#preHandle} for matched
+ * locales and redirects with growing lists of supported locales.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestURILocaleInterceptorBenchmark {
+
+    public enum Scenario {
+        MATCHED("/de/products/shoes", null),
+        MATCHED_TRAILING_SLASH("/de/products/shoes/", null),
+        REDIRECT("/it/products/shoes", null),
+        REDIRECT_QUERY("/it/products/shoes", "color=red&size=42"),
+        REDIRECT_TRAILING_SLASH("/it/products/shoes/", null),
+        REDIRECT_ROOT("/", null);
+
+        final String requestUri;
+        final String queryString;
+
+        Scenario(String requestUri, String queryString) {
+            this.requestUri = requestUri;
+            this.queryString = queryString;
+        }
+    }
+
+    @Param({"2", "20", "200"})
+    int supportedLocales;
+
+    @Param
+    Scenario scenario;
+
+    RequestURILocaleInterceptor interceptor;
+    MockHttpServletRequest request;
+    RedirectResponse response;
+
+    @Setup
+    public void setup() {
+        this.interceptor = RequestURILocaleInterceptor
+            .builder(BenchmarkLocales.DEFAULT_LOCALE)
+            .supportedLocales(BenchmarkLocales.supportedLocales(this.supportedLocales))
+            .defaultRequestURI("/%s/home")
+            .build();
+
+        RequestURILocaleResolver localeResolver = new RequestURILocaleResolver();
+        localeResolver.setDefaultLocale(BenchmarkLocales.DEFAULT_LOCALE);
+
+        this.request = new MockHttpServletRequest();
+        this.request.setAttribute(DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE, localeResolver);
+        this.request.setRequestURI(this.scenario.requestUri);
+        this.request.setQueryString(this.scenario.queryString);
+        this.response = new RedirectResponse();
+    }
+
+    @Benchmark
+    public Object preHandle() {
+        this.interceptor.preHandle(this.request, this.response, null);
+        return this.response.location;
+    }
+
+    /**
+     * Response that only remembers the redirect location, so the response
+     * can be reused across invocations without being committed.
+     */
+    static class RedirectResponse extends MockHttpServletResponse {
+
+        String location;
+
+        @Override
+        public void sendRedirect(String location) {
+            this.location = location;
+        }
+    }
+}
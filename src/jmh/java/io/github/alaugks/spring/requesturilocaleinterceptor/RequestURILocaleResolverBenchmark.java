@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Benchmarks {@link RequestURILocaleResolver#resolveLocale} with and without
+ * a locale set by the interceptor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestURILocaleResolverBenchmark {
+
+    RequestURILocaleResolver localeResolver;
+    MockHttpServletRequest requestWithLocale;
+    MockHttpServletRequest requestWithoutLocale;
+
+    @Setup
+    public void setup() {
+        this.localeResolver = new RequestURILocaleResolver();
+        this.localeResolver.setDefaultLocale(BenchmarkLocales.DEFAULT_LOCALE);
+
+        this.requestWithoutLocale = new MockHttpServletRequest();
+        this.requestWithoutLocale.addPreferredLocale(Locale.GERMAN);
+
+        this.requestWithLocale = new MockHttpServletRequest();
+        this.localeResolver.setLocale(
+            this.requestWithLocale,
+            new MockHttpServletResponse(),
+            BenchmarkLocales.MATCHED_LOCALE
+        );
+    }
+
+    @Benchmark
+    public Locale resolveLocale() {
+        return this.localeResolver.resolveLocale(this.requestWithLocale);
+    }
+
+    @Benchmark
+    public Locale resolveLocale_acceptLanguage() {
+        return this.localeResolver.resolveLocale(this.requestWithoutLocale);
+    }
+}
@@ -0,0 +1,80 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Minimal Spring MVC application on embedded Tomcat for
+ * {@link RequestURILocaleLoadIT}.
+ * <p>{@link RequestURILocaleAutoConfiguration} registers interceptor and
+ * resolver only if {@code requesturi-locale.default-locale} is set, so the
+ * same application runs with and without locale handling. Without it,
+ * {@code loadtest.baseline-redirects=true} answers root path and
+ * unsupported locales with the same redirects, so both runs serve the same
+ * responses and only the cost of locale handling is measured.
+ */
+@SpringBootConfiguration
+@ImportAutoConfiguration({
+    ServletWebServerFactoryAutoConfiguration.class,
+    DispatcherServletAutoConfiguration.class,
+    RequestURILocaleAutoConfiguration.class,
+    WebMvcAutoConfiguration.class
+})
+public class LoadTestApplication {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty("loadtest.baseline-redirects")
+    static class BaselineRedirectConfiguration implements WebMvcConfigurer {
+
+        // The redirects RequestURILocaleInterceptor sends for the request
+        // mix of RequestURILocaleLoadIT.
+        static final Map<String, String> REDIRECTS = Map.of(
+            "/", "/en",
+            "/it/products/9", "/en/products/9"
+        );
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new HandlerInterceptor() {
+                @Override
+                public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+                    throws IOException {
+                    String location = REDIRECTS.get(request.getRequestURI());
+                    if (location == null) {
+                        return true;
+                    }
+                    response.sendRedirect(location);
+                    return false;
+                }
+            });
+        }
+    }
+
+    @RestController
+    static class ProductController {
+
+        @GetMapping("/{locale}/products/{id}")
+        String product(@PathVariable String locale, @PathVariable String id, Locale resolvedLocale) {
+            return "product " + id + " " + resolvedLocale.toLanguageTag();
+        }
+    }
+}
@@ -0,0 +1,321 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * End-to-end load test of the interceptor in a real request pipeline:
+ * {@link LoadTestApplication} on embedded Tomcat over loopback, once without
+ * and once with {@link RequestURILocaleInterceptor} and
+ * {@link RequestURILocaleResolver}, driven by a realistic mix of localized
+ * hits and redirects. Without interceptor, the application answers the
+ * redirects of the mix itself, so both applications serve the same status
+ * codes and locations and the difference is the cost of locale handling
+ * alone.
+ * <p>Both applications run side by side and are loaded in many short,
+ * alternating runs, so the JIT, which keeps improving for minutes, affects
+ * both alike. Each run measures requests per second, latency percentiles
+ * and the bytes allocated by Tomcat worker threads per request. The
+ * overhead is taken per pair of runs: throughput and p99 latency as ratio
+ * (with / without interceptor), allocation as extra bytes per request. The
+ * median of each is compared against the committed
+ * {@code load-test-baseline.properties}, so the result does not depend on
+ * the speed of the machine and a single noisy run does not fail the build.
+ * The measured runs are written to
+ * {@code target/failsafe-reports/load-test-report.txt} and are part of every
+ * assertion message.
+ * <p>Run with {@code mvn verify -P load-test}. Warmup per application,
+ * duration per run, client threads and runs are set with
+ * {@code -Dloadtest.warmup=30}, {@code -Dloadtest.duration=3} (seconds),
+ * {@code -Dloadtest.threads=8} and {@code -Dloadtest.runs=10}.
+ */
+class RequestURILocaleLoadIT {
+
+    static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup", 30);
+    static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration", 3);
+    static final int THREADS = Integer.getInteger("loadtest.threads", 8);
+    static final int RUNS = Integer.getInteger("loadtest.runs", 10);
+    static final int MAX_SAMPLES_PER_THREAD = 1 << 20;
+    static final Path REPORT = Path.of("target", "failsafe-reports", "load-test-report.txt");
+
+    // 80 % localized hits, 10 % root path, 10 % unsupported locale.
+    static final List<String> REQUEST_MIX = List.of(
+        "/en/products/1",
+        "/de/products/2",
+        "/en-us/products/3",
+        "/en/products/4?ref=home",
+        "/de/products/5",
+        "/en/products/6",
+        "/en-us/products/7",
+        "/de/products/8",
+        "/",
+        "/it/products/9"
+    );
+
+    static final String[] WITHOUT_INTERCEPTOR = {
+        "--loadtest.baseline-redirects=true"
+    };
+
+    static final String[] WITH_INTERCEPTOR = {
+        "--requesturi-locale.default-locale=en",
+        "--requesturi-locale.supported-locales=en,de,en-US"
+    };
+
+    @Test
+    void test_load() throws Exception {
+        try (Application without = Application.start(WITHOUT_INTERCEPTOR);
+            Application with = Application.start(WITH_INTERCEPTOR)) {
+            assertEquals(
+                without.responses(),
+                with.responses(),
+                "Both applications must answer the request mix with the same status codes and locations"
+            );
+
+            // Warm up the JIT for both applications first, so the runs
+            // measured first are not penalized by compiling Tomcat, Spring
+            // MVC and the client.
+            this.load(without, Duration.ofSeconds(WARMUP_SECONDS), false);
+            this.load(with, Duration.ofSeconds(WARMUP_SECONDS), false);
+
+            this.measure(without, with);
+        }
+    }
+
+    void measure(Application withoutInterceptor, Application withInterceptor) throws Exception {
+        Duration duration = Duration.ofSeconds(DURATION_SECONDS);
+        double[] throughputRatios = new double[RUNS];
+        double[] latencyRatios = new double[RUNS];
+        double[] allocationExtras = new double[RUNS];
+        StringBuilder report = new StringBuilder(String.format(
+            "%n%-22s %12s %10s %10s %10s %12s%n",
+            "", "requests/s", "p50 us", "p90 us", "p99 us", "bytes/req"
+        ));
+        for (int run = 0; run < RUNS; run++) {
+            // The order alternates to not favor the run measured second.
+            LoadResult without;
+            LoadResult with;
+            if (run % 2 == 0) {
+                without = this.load(withoutInterceptor, duration, true);
+                with = this.load(withInterceptor, duration, true);
+            } else {
+                with = this.load(withInterceptor, duration, true);
+                without = this.load(withoutInterceptor, duration, true);
+            }
+            report.append(without.format("without interceptor")).append(System.lineSeparator());
+            report.append(with.format("with interceptor")).append(System.lineSeparator());
+
+            throughputRatios[run] = with.throughput() / without.throughput();
+            latencyRatios[run] = (double) with.p99() / without.p99();
+            allocationExtras[run] = with.allocationPerRequest() - without.allocationPerRequest();
+        }
+
+        double throughputRatio = median(throughputRatios);
+        double latencyRatio = median(latencyRatios);
+        double allocationExtra = median(allocationExtras);
+        report.append(String.format(
+            "median of %d runs: throughput.ratio=%.3f latency.p99.ratio=%.3f allocation.extra=%.0f",
+            RUNS,
+            throughputRatio,
+            latencyRatio,
+            allocationExtra
+        ));
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, report + System.lineSeparator());
+
+        Properties baseline = new Properties();
+        try (InputStream in = this.getClass().getResourceAsStream("/load-test-baseline.properties")) {
+            baseline.load(in);
+        }
+
+        assertTrue(
+            throughputRatio >= value(baseline, "throughput.ratio") - value(baseline, "throughput.tolerance"),
+            "Throughput regression: " + report
+        );
+        assertTrue(
+            latencyRatio <= value(baseline, "latency.p99.ratio") + value(baseline, "latency.p99.tolerance"),
+            "Latency regression: " + report
+        );
+        assertTrue(
+            allocationExtra <= value(baseline, "allocation.extra") + value(baseline, "allocation.tolerance"),
+            "Allocation regression: " + report
+        );
+    }
+
+    static double value(Properties baseline, String key) {
+        return Double.parseDouble(baseline.getProperty(key));
+    }
+
+    static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    LoadResult load(Application application, Duration duration, boolean measure) throws Exception {
+        HttpClient client = application.client();
+        List<HttpRequest> requests = application.requests();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[MAX_SAMPLES_PER_THREAD];
+                int count = 0;
+                start.await();
+                long end = System.nanoTime() + duration.toNanos();
+                for (int i = offset; System.nanoTime() < end && count < latencies.length; i++) {
+                    HttpRequest request = requests.get(i % requests.size());
+                    long begin = System.nanoTime();
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    latencies[count++] = System.nanoTime() - begin;
+                    assertTrue(response.statusCode() < 500, "Unexpected status " + response.statusCode());
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        Map<Long, Long> allocatedBefore = allocatedBytesOfWorkerThreads();
+        long begin = System.nanoTime();
+        start.countDown();
+        List<long[]> results = new ArrayList<>();
+        for (Future<long[]> future : futures) {
+            results.add(future.get());
+        }
+        long elapsed = System.nanoTime() - begin;
+        Map<Long, Long> allocatedAfter = allocatedBytesOfWorkerThreads();
+        executor.shutdown();
+
+        if (!measure) {
+            return null;
+        }
+
+        long[] latencies = results.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        long allocated = 0;
+        for (Map.Entry<Long, Long> entry : allocatedAfter.entrySet()) {
+            allocated += entry.getValue() - allocatedBefore.getOrDefault(entry.getKey(), 0L);
+        }
+        assertTrue(latencies.length > 0, "No request completed");
+
+        return new LoadResult(
+            latencies.length / (elapsed / 1e9),
+            percentile(latencies, 0.50),
+            percentile(latencies, 0.90),
+            percentile(latencies, 0.99),
+            (double) allocated / latencies.length
+        );
+    }
+
+    static long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    // Only the application under load allocates, so the worker threads of
+    // both applications are summed up.
+    static Map<Long, Long> allocatedBytesOfWorkerThreads() {
+        com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Map<Long, Long> allocated = new HashMap<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            // Tomcat worker threads, e.g. http-nio-auto-1-exec-1
+            if (thread.getName().startsWith("http-nio-") && thread.getName().contains("-exec-")) {
+                allocated.put(thread.getId(), threadMXBean.getThreadAllocatedBytes(thread.getId()));
+            }
+        }
+        return allocated;
+    }
+
+    record Application(
+        ConfigurableApplicationContext context,
+        int port,
+        HttpClient client,
+        List<HttpRequest> requests
+    ) implements AutoCloseable {
+
+        static Application start(String... args) {
+            List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=warn"
+            ));
+            arguments.addAll(List.of(args));
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .run(arguments.toArray(String[]::new));
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+            List<HttpRequest> requests = REQUEST_MIX.stream()
+                .map(path -> HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build())
+                .toList();
+            return new Application(context, port, client, requests);
+        }
+
+        /**
+         * @return status code and location of every request of the mix.
+         */
+        Map<String, String> responses() throws Exception {
+            Map<String, String> responses = new LinkedHashMap<>();
+            for (HttpRequest request : this.requests) {
+                HttpResponse<Void> response = this.client.send(request, HttpResponse.BodyHandlers.discarding());
+                // Tomcat makes the location absolute, the port differs.
+                String location = response.headers().firstValue(HttpHeaders.LOCATION).orElse("")
+                    .replace("http://localhost:" + this.port, "");
+                responses.put(request.uri().getRawPath(), response.statusCode() + " " + location);
+            }
+            return responses;
+        }
+
+        @Override
+        public void close() {
+            this.context.close();
+        }
+    }
+
+    record LoadResult(double throughput, long p50, long p90, long p99, double allocationPerRequest) {
+
+        String format(String name) {
+            return String.format(
+                "%-22s %12.0f %10d %10d %10d %12.0f",
+                name,
+                this.throughput,
+                this.p50 / 1_000,
+                this.p90 / 1_000,
+                this.p99 / 1_000,
+                this.allocationPerRequest
+            );
+        }
+    }
+}
@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Locale.LanguageRange;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Picks the best supported locale for an {@code Accept-Language} header.
+ * <p>Header values repeat heavily across traffic, so the result is kept in
+ * a bounded, concurrent LRU cache keyed on the raw header value and the
+ * quality list is parsed only once per distinct value. Overly long values
+ * are negotiated without being cached, so they cannot bloat the cache.
+ */
+final class AcceptLanguageNegotiator {
+
+    static final int CACHE_SIZE = 1024;
+    static final int MAX_CACHED_LENGTH = 256;
+    private final List<Locale> supportedLocales;
+    private final Locale defaultLocale;
+    private final ConcurrentLruCache<String, Locale> cache;
+
+    /**
+     * Creates a new negotiator.
+     *
+     * @param supportedLocales the locales to choose from.
+     * @param defaultLocale    the locale returned if no supported locale
+     *                         matches.
+     */
+    AcceptLanguageNegotiator(List<Locale> supportedLocales, Locale defaultLocale) {
+        this.supportedLocales = List.copyOf(supportedLocales);
+        this.defaultLocale = defaultLocale;
+        this.cache = new ConcurrentLruCache<>(CACHE_SIZE, this::lookup);
+    }
+
+    /**
+     * Returns the best supported locale for the given header value.
+     *
+     * @param acceptLanguage the raw {@code Accept-Language} header value.
+     * @return the best matching supported locale, or the default locale if
+     *         none matches or the header is invalid.
+     */
+    Locale negotiate(String acceptLanguage) {
+        if (acceptLanguage.length() > MAX_CACHED_LENGTH) {
+            return this.lookup(acceptLanguage);
+        }
+        return this.cache.get(acceptLanguage);
+    }
+
+    private Locale lookup(String acceptLanguage) {
+        try {
+            Locale locale = Locale.lookup(LanguageRange.parse(acceptLanguage), this.supportedLocales);
+            return locale != null ? locale : this.defaultLocale;
+        } catch (IllegalArgumentException e) {
+            // Invalid Accept-Language header: no preference.
+            return this.defaultLocale;
+        }
+    }
+}
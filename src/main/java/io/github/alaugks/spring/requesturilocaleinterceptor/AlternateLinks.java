@@ -0,0 +1,114 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Builds the {@code Link} header value that lists the alternate
+ * {@code hreflang} URLs of a localized page, e.g.
+ * {@code </en/products>; rel="alternate"; hreflang="en", </de/products>;
+ * rel="alternate"; hreflang="de", </en/products>; rel="alternate";
+ * hreflang="x-default"}.
+ * <p>The fragments before and after the path are compiled once per locale,
+ * so a request only stitches its locale-free path in between, written into
+ * one right-sized buffer. Header values can optionally be kept in a bounded,
+ * concurrent LRU cache keyed on the raw request URI. Overly long request
+ * URIs are built without being cached, so they cannot bloat the cache.
+ */
+final class AlternateLinks {
+
+    static final int MAX_CACHED_LENGTH = 256;
+    static final String X_DEFAULT = "x-default";
+    private static final char PATH_DELIMITER = '/';
+    private final String[] prefixes;
+    private final String[] suffixes;
+    private final int fragmentsLength;
+    private final ConcurrentLruCache<String, String> cache;
+
+    private AlternateLinks(List<String> prefixes, List<String> suffixes, int cacheSize) {
+        this.prefixes = prefixes.toArray(String[]::new);
+        this.suffixes = suffixes.toArray(String[]::new);
+        int fragmentsLength = 0;
+        for (int i = 0; i < this.prefixes.length; i++) {
+            fragmentsLength += this.prefixes[i].length() + this.suffixes[i].length();
+        }
+        this.fragmentsLength = fragmentsLength;
+        this.cache = cacheSize > 0 ? new ConcurrentLruCache<>(cacheSize, this::build) : null;
+    }
+
+    /**
+     * Compiles the header fragments of the given locales.
+     *
+     * @param supportedLocales the locales to list, duplicates are ignored.
+     * @param defaultLocale    the locale listed as {@code x-default}.
+     * @param origin           scheme and host prepended to every URL, e.g.
+     *                         {@code https://example.com}, or
+     *                         {@code null} for relative URLs.
+     * @param cacheSize        the maximum number of cached header values,
+     *                         {@code 0} to disable the cache.
+     * @return the compiled header builder.
+     */
+    static AlternateLinks of(List<Locale> supportedLocales, Locale defaultLocale, String origin, int cacheSize) {
+        List<String> prefixes = new ArrayList<>();
+        List<String> suffixes = new ArrayList<>();
+        Set<Locale> locales = new LinkedHashSet<>(supportedLocales);
+        for (Locale locale : locales) {
+            prefixes.add(prefix(prefixes.isEmpty(), origin, locale));
+            suffixes.add(suffix(locale.toLanguageTag()));
+        }
+        prefixes.add(prefix(prefixes.isEmpty(), origin, defaultLocale));
+        suffixes.add(suffix(X_DEFAULT));
+
+        return new AlternateLinks(prefixes, suffixes, cacheSize);
+    }
+
+    private static String prefix(boolean first, String origin, Locale locale) {
+        return (first ? "<" : ", <")
+            + (origin != null ? origin : "")
+            + PATH_DELIMITER
+            + LocaleSettings.formatLocale(locale);
+    }
+
+    private static String suffix(String hreflang) {
+        return ">; rel=\"alternate\"; hreflang=\"" + hreflang + "\"";
+    }
+
+    /**
+     * Returns the header value for the given request. The query string is
+     * not part of the alternate URLs.
+     *
+     * @param requestUri the raw request URI.
+     * @param localeEnd  index after the first path segment.
+     * @return the {@code Link} header value.
+     */
+    String header(String requestUri, int localeEnd) {
+        if (this.cache == null || requestUri.length() > MAX_CACHED_LENGTH) {
+            return this.build(requestUri, localeEnd);
+        }
+        return this.cache.get(requestUri);
+    }
+
+    private String build(String requestUri) {
+        int localeEnd = requestUri.indexOf(PATH_DELIMITER, 1);
+        return this.build(requestUri, localeEnd != -1 ? localeEnd : requestUri.length());
+    }
+
+    private String build(String requestUri, int localeEnd) {
+        int pathLength = requestUri.length() - localeEnd;
+        StringBuilder header = new StringBuilder(this.fragmentsLength + this.prefixes.length * pathLength);
+        for (int i = 0; i < this.prefixes.length; i++) {
+            header
+                .append(this.prefixes[i])
+                .append(requestUri, localeEnd, requestUri.length())
+                .append(this.suffixes[i]);
+        }
+        return header.toString();
+    }
+}
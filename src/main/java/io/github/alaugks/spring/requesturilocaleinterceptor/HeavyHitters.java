@@ -0,0 +1,165 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import io.github.alaugks.spring.requesturilocaleinterceptor.RedirectSourceTracker.Source;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-memory, lock-free estimate of the most frequent values in a stream.
+ * <p>Every value is counted in a Count-Min sketch of {@value #DEPTH} rows,
+ * hashed straight on the characters of the request URI. The values with
+ * the highest estimates are kept in a fixed table of top slots: a value
+ * already in the table raises its count, a new value replaces the slot with
+ * the lowest count once its estimate exceeds it. Counters and slots are
+ * updated with atomic operations only, so concurrent updates may lose a
+ * slot replacement, but never block. Only a value entering the table
+ * allocates.
+ * <p>Values are truncated to {@value #MAX_LENGTH} characters, so memory
+ * stays constant however many distinct and however long values are added.
+ */
+final class HeavyHitters {
+
+    static final int DEPTH = 4;
+    static final int MAX_LENGTH = 128;
+    private final AtomicLongArray counters;
+    private final int mask;
+    private final AtomicReferenceArray<Slot> slots;
+
+    /**
+     * Creates a new estimate.
+     *
+     * @param width    counters per sketch row, rounded up to a power of
+     *                 two.
+     * @param capacity the number of top slots.
+     */
+    HeavyHitters(int width, int capacity) {
+        int rowWidth = Integer.highestOneBit(Math.max(width, 2) - 1) << 1;
+        this.counters = new AtomicLongArray(DEPTH * rowWidth);
+        this.mask = rowWidth - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Counts the characters {@code [start, end)} of the given value.
+     *
+     * @param value the value, e.g. the raw request URI.
+     * @param start index of the first character.
+     * @param end   index after the last character.
+     */
+    void add(String value, int start, int end) {
+        end = Math.min(end, start + MAX_LENGTH);
+        long hash = hash(value, start, end);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = row * (this.mask + 1) + ((h1 + row * h2) & this.mask);
+            estimate = Math.min(estimate, this.counters.incrementAndGet(index));
+        }
+
+        int minIndex = -1;
+        Slot min = null;
+        long minCount = Long.MAX_VALUE;
+        for (int i = 0; i < this.slots.length(); i++) {
+            Slot slot = this.slots.get(i);
+            if (slot == null) {
+                if (minCount > 0) {
+                    minIndex = i;
+                    min = null;
+                    minCount = 0;
+                }
+                continue;
+            }
+            if (slot.matches(value, start, end)) {
+                slot.raise(estimate);
+                return;
+            }
+            long count = slot.count.get();
+            if (count < minCount) {
+                minIndex = i;
+                min = slot;
+                minCount = count;
+            }
+        }
+
+        if (minIndex != -1 && estimate > minCount) {
+            this.slots.compareAndSet(minIndex, min, new Slot(value.substring(start, end), estimate));
+        }
+    }
+
+    /**
+     * @return the top values, highest count first.
+     */
+    List<Source> top() {
+        Map<String, Long> counts = new HashMap<>();
+        for (int i = 0; i < this.slots.length(); i++) {
+            Slot slot = this.slots.get(i);
+            if (slot != null) {
+                // Racing inserts may have placed a value twice.
+                counts.merge(slot.value, slot.count.get(), Math::max);
+            }
+        }
+
+        List<Source> top = new ArrayList<>(counts.size());
+        counts.forEach((value, count) -> top.add(new Source(value, count)));
+        top.sort(Comparator.comparingLong(Source::count).reversed().thenComparing(Source::value));
+        return top;
+    }
+
+    /**
+     * Resets all counters and slots. Updates racing with a reset may
+     * survive it.
+     */
+    void clear() {
+        for (int i = 0; i < this.counters.length(); i++) {
+            this.counters.set(i, 0);
+        }
+        for (int i = 0; i < this.slots.length(); i++) {
+            this.slots.set(i, null);
+        }
+    }
+
+    private static long hash(String value, int start, int end) {
+        // 64-bit FNV-1a, split into two hashes for the sketch rows.
+        long hash = 0xcbf29ce484222325L;
+        for (int i = start; i < end; i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static final class Slot {
+
+        final String value;
+        final AtomicLong count;
+
+        Slot(String value, long count) {
+            this.value = value;
+            this.count = new AtomicLong(count);
+        }
+
+        boolean matches(String value, int start, int end) {
+            return this.value.length() == end - start && this.value.regionMatches(0, value, start, end - start);
+        }
+
+        void raise(long estimate) {
+            long count;
+            while ((count = this.count.get()) < estimate) {
+                if (this.count.compareAndSet(count, estimate)) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compiles every accepted spelling of the supported locales, e.g.
+ * {@code EN}, {@code en_US} or {@code iw} for {@code he}, into a
+ * {@link LocaleLookup} that folds case and {@code _} to {@code -}.
+ * <p>Besides case and separator variants, the legacy ISO 639 language codes
+ * that the JDK maps to their current code are accepted. Whether a matched
+ * segment is already the canonical spelling is checked against the locale
+ * prefix separately, so neither check allocates.
+ */
+final class LocaleAliases {
+
+    private static final char SUBTAG_DELIMITER = '-';
+    private static final Map<String, String> LEGACY_LANGUAGES = Map.of(
+        "he", "iw",
+        "id", "in",
+        "yi", "ji",
+        "iw", "he",
+        "in", "id",
+        "ji", "yi"
+    );
+
+    private LocaleAliases() {
+    }
+
+    /**
+     * Compiles the alias table.
+     *
+     * @param supportedLocales the supported locales.
+     * @param defaultLocale    the default locale.
+     * @return the lookup table of all accepted spellings to supported
+     *         locales.
+     */
+    static LocaleLookup of(List<Locale> supportedLocales, Locale defaultLocale) {
+        Map<String, Locale> entries = new HashMap<>();
+        put(entries, defaultLocale);
+        for (Locale locale : supportedLocales) {
+            put(entries, locale);
+        }
+        return LocaleLookup.of(entries, true);
+    }
+
+    private static void put(Map<String, Locale> entries, Locale locale) {
+        String tag = LocaleSettings.formatLocale(locale);
+        entries.putIfAbsent(tag, locale);
+
+        int languageEnd = tag.indexOf(SUBTAG_DELIMITER);
+        String language = languageEnd != -1 ? tag.substring(0, languageEnd) : tag;
+        String legacyLanguage = LEGACY_LANGUAGES.get(language);
+        if (legacyLanguage != null) {
+            entries.putIfAbsent(legacyLanguage + tag.substring(language.length()), locale);
+        }
+    }
+}
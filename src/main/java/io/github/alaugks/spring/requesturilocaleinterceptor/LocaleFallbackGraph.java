@@ -0,0 +1,153 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Falls back from unsupported locale tags to their nearest supported
+ * locale, e.g. {@code de-AT} to {@code de} or {@code zh-Hant-TW} to
+ * {@code zh-Hant}.
+ * <p>The fallback chain of a tag follows the explicit fallbacks first and,
+ * if regional fallback is enabled, otherwise drops the last subtag. Chains
+ * are only walked once when the graph is compiled, for the supported tags
+ * and the tags of the explicit fallbacks, so the table grows with the
+ * configuration and not with the locales the JDK knows.
+ * <p>A path segment is looked up as a whole first. With regional fallback,
+ * its subtags are then dropped from the end and the longest prefix found in
+ * the table wins, e.g. {@code de-CH-1996} falls back like {@code de-CH} and
+ * {@code sr-Latn-ME} like {@code sr-Latn}. Every step is a
+ * {@link LocaleLookup} straight on the request URI, so a lookup takes at most
+ * one step per subtag and creates no objects.
+ */
+final class LocaleFallbackGraph {
+
+    private static final char SUBTAG_DELIMITER = '-';
+
+    private final LocaleLookup supportedLocales;
+    private final LocaleLookup fallbackLocales;
+    private final boolean regional;
+
+    private LocaleFallbackGraph(LocaleLookup supportedLocales, LocaleLookup fallbackLocales, boolean regional) {
+        this.supportedLocales = supportedLocales;
+        this.fallbackLocales = fallbackLocales;
+        this.regional = regional;
+    }
+
+    /**
+     * Compiles the fallback graph.
+     *
+     * @param supportedLocales the supported locales.
+     * @param regional         {@code true} to fall back by dropping subtags.
+     * @param fallbacks        explicit fallbacks, applied before regional
+     *                         fallback.
+     * @return the fallback graph, without any fallback if neither regional
+     *         fallback nor explicit fallbacks are configured.
+     */
+    static LocaleFallbackGraph of(List<Locale> supportedLocales, boolean regional, Map<Locale, Locale> fallbacks) {
+        Map<String, Locale> supported = new HashMap<>();
+        for (Locale locale : supportedLocales) {
+            supported.putIfAbsent(key(locale), locale);
+        }
+        Map<String, String> edges = new HashMap<>();
+        fallbacks.forEach((locale, fallbackLocale) -> edges.put(key(locale), key(fallbackLocale)));
+
+        // Supported tags are prefixes of the tags falling back to them, the
+        // tags of explicit fallbacks are looked up with their own chain.
+        Map<String, Locale> entries = new HashMap<>();
+        if (regional) {
+            entries.putAll(supported);
+        }
+        for (String tag : edges.keySet()) {
+            if (supported.containsKey(tag)) {
+                continue;
+            }
+            Locale fallbackLocale = resolve(tag, supported, edges, regional);
+            if (fallbackLocale != null) {
+                entries.put(tag, fallbackLocale);
+            }
+        }
+
+        return new LocaleFallbackGraph(LocaleLookup.of(supported), LocaleLookup.of(entries), regional);
+    }
+
+    private static Locale resolve(
+        String tag,
+        Map<String, Locale> supported,
+        Map<String, String> edges,
+        boolean regional
+    ) {
+        Set<String> visited = new HashSet<>();
+        String current = tag;
+        while (current != null && visited.add(current)) {
+            Locale locale = supported.get(current);
+            if (locale != null) {
+                return locale;
+            }
+
+            String next = edges.get(current);
+            if (next == null && regional) {
+                int delimiter = current.lastIndexOf(SUBTAG_DELIMITER);
+                next = delimiter > 0 ? current.substring(0, delimiter) : null;
+            }
+            current = next;
+        }
+        return null;
+    }
+
+    private static String key(Locale locale) {
+        return locale.toLanguageTag().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return {@code true} if no segment falls back to a supported locale.
+     */
+    boolean isEmpty() {
+        return this.fallbackLocales.isEmpty();
+    }
+
+    /**
+     * Looks up the fallback of the characters {@code [start, end)} of the
+     * given request URI.
+     *
+     * @param requestUri the raw request URI.
+     * @param start      index of the first character of the segment.
+     * @param end        index after the last character of the segment.
+     * @return the supported locale the segment falls back to, or
+     *         {@code null} if the segment is a supported locale itself or
+     *         has no fallback.
+     */
+    Locale find(String requestUri, int start, int end) {
+        if (this.fallbackLocales.isEmpty() || this.supportedLocales.find(requestUri, start, end) != null) {
+            return null;
+        }
+
+        Locale locale = this.fallbackLocales.find(requestUri, start, end);
+        if (locale != null || !this.regional) {
+            return locale;
+        }
+
+        int subtagEnd = end;
+        for (int i = end - 1; i > start; i--) {
+            if (requestUri.charAt(i) != SUBTAG_DELIMITER) {
+                continue;
+            }
+            // Empty subtags, e.g. "de-" or "de--at", are no language tag.
+            if (i + 1 == subtagEnd) {
+                return null;
+            }
+            locale = this.fallbackLocales.find(requestUri, start, i);
+            if (locale != null) {
+                return locale;
+            }
+            subtagEnd = i;
+        }
+        return null;
+    }
+}
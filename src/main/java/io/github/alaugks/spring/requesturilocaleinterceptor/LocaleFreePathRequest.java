@@ -0,0 +1,66 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * Request passed on by {@link RequestURILocaleFilter} if
+ * {@link RequestURILocaleInterceptor.Builder#stripLocale(boolean)} is
+ * enabled. Request URI, request URL and servlet path are returned without
+ * the locale segment, so the handler mapping matches controllers mapped
+ * without a {@code {locale}} variable. The context path, if any, is kept.
+ * All other methods delegate to the original request.
+ */
+final class LocaleFreePathRequest extends HttpServletRequestWrapper {
+
+    private static final char PATH_DELIMITER = '/';
+    private final String requestUri;
+    private final int localeEnd;
+
+    /**
+     * @param request   the original request.
+     * @param path      the request URI within the application without the
+     *                  locale segment.
+     * @param localeEnd index after the locale segment in the request URI
+     *                  within the application.
+     */
+    LocaleFreePathRequest(HttpServletRequest request, String path, int localeEnd) {
+        super(request);
+        String contextPath = request.getContextPath();
+        this.requestUri = contextPath.isEmpty() ? path : contextPath + path;
+        this.localeEnd = localeEnd;
+    }
+
+    @Override
+    public String getRequestURI() {
+        return this.requestUri;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        StringBuffer url = super.getRequestURL();
+        url.setLength(url.length() - super.getRequestURI().length());
+        return url.append(this.requestUri);
+    }
+
+    @Override
+    public String getServletPath() {
+        // The servlet path follows the context path, the locale segment
+        // starts it if the servlet is mapped to the root.
+        String servletPath = super.getServletPath();
+        int contextPathLength = super.getContextPath().length();
+        if (servletPath.length() < this.localeEnd
+            || !servletPath.regionMatches(0, super.getRequestURI(), contextPathLength, this.localeEnd)) {
+            return servletPath;
+        }
+        if (servletPath.length() == this.localeEnd) {
+            return String.valueOf(PATH_DELIMITER);
+        }
+        return servletPath.charAt(this.localeEnd) == PATH_DELIMITER
+            ? servletPath.substring(this.localeEnd)
+            : servletPath;
+    }
+}
@@ -0,0 +1,148 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable lookup table that maps the first path segment of a request URI
+ * to one of the supported locales.
+ * <p>The table is compiled once from the supported locales and keyed on
+ * their language tags. Segments are hashed and compared case-insensitively
+ * straight on the characters of the request URI, so a lookup neither
+ * creates a {@link Locale} nor any intermediate {@link String}. On a hit the
+ * pre-built supported {@link Locale} instance is returned.
+ * <p>A table compiled with separator folding additionally matches {@code _}
+ * as {@code -}, e.g. {@code en_US} as {@code en-us}.
+ */
+final class LocaleLookup {
+
+    private final String[] keys;
+    private final Locale[] locales;
+    private final int mask;
+    private final int maxKeyLength;
+    private final boolean foldSeparators;
+
+    private LocaleLookup(String[] keys, Locale[] locales, int maxKeyLength, boolean foldSeparators) {
+        this.keys = keys;
+        this.locales = locales;
+        this.mask = keys.length - 1;
+        this.maxKeyLength = maxKeyLength;
+        this.foldSeparators = foldSeparators;
+    }
+
+    /**
+     * Compiles the given locales into a lookup table. Duplicate locales are
+     * ignored, the first occurrence wins.
+     *
+     * @param supportedLocales the locales accepted as first path segment.
+     * @return the compiled lookup table.
+     */
+    static LocaleLookup of(Collection<Locale> supportedLocales) {
+        Map<String, Locale> entries = new LinkedHashMap<>();
+        for (Locale locale : supportedLocales) {
+            entries.putIfAbsent(locale.toLanguageTag().toLowerCase(Locale.ROOT), locale);
+        }
+        return of(entries);
+    }
+
+    /**
+     * Compiles the given entries into a lookup table.
+     *
+     * @param entries the locales keyed on lower case path segments.
+     * @return the compiled lookup table.
+     */
+    static LocaleLookup of(Map<String, Locale> entries) {
+        return of(entries, false);
+    }
+
+    /**
+     * Compiles the given entries into a lookup table.
+     *
+     * @param entries        the locales keyed on lower case path segments
+     *                       using {@code -} as separator.
+     * @param foldSeparators {@code true} to match {@code _} as {@code -}.
+     * @return the compiled lookup table.
+     */
+    static LocaleLookup of(Map<String, Locale> entries, boolean foldSeparators) {
+        int capacity = Integer.highestOneBit(Math.max(entries.size(), 1) * 4 - 1) << 1;
+        String[] keys = new String[capacity];
+        Locale[] locales = new Locale[capacity];
+        int maxKeyLength = 0;
+
+        for (Map.Entry<String, Locale> entry : entries.entrySet()) {
+            String key = entry.getKey();
+            int slot = hash(key, 0, key.length(), false) & (capacity - 1);
+            while (keys[slot] != null) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            keys[slot] = key;
+            locales[slot] = entry.getValue();
+            maxKeyLength = Math.max(maxKeyLength, key.length());
+        }
+
+        return new LocaleLookup(keys, locales, maxKeyLength, foldSeparators);
+    }
+
+    /**
+     * @return {@code true} if the table has no entries.
+     */
+    boolean isEmpty() {
+        return this.maxKeyLength == 0;
+    }
+
+    /**
+     * Looks up the characters {@code [start, end)} of the given request URI.
+     *
+     * @param requestUri the raw request URI.
+     * @param start      index of the first character of the segment.
+     * @param end        index after the last character of the segment.
+     * @return the matching supported locale, or {@code null} if the segment
+     *         is not a supported locale.
+     */
+    Locale find(String requestUri, int start, int end) {
+        int length = end - start;
+        if (length <= 0 || length > this.maxKeyLength) {
+            return null;
+        }
+
+        int slot = hash(requestUri, start, end, this.foldSeparators) & this.mask;
+        String key;
+        while ((key = this.keys[slot]) != null) {
+            if (key.length() == length && matches(key, requestUri, start, this.foldSeparators)) {
+                return this.locales[slot];
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return null;
+    }
+
+    private static boolean matches(String key, String requestUri, int start, boolean foldSeparators) {
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) != fold(requestUri.charAt(start + i), foldSeparators)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(String value, int start, int end, boolean foldSeparators) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + fold(value.charAt(i), foldSeparators);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    // Language tags are ASCII, so folding A-Z is sufficient.
+    private static char fold(char c, boolean foldSeparators) {
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        return foldSeparators && c == '_' ? '-' : c;
+    }
+}
@@ -0,0 +1,451 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import io.github.alaugks.spring.requesturilocaleinterceptor.RequestURILocaleInterceptor.Builder;
+import io.github.alaugks.spring.requesturilocaleinterceptor.RequestURILocaleMetrics.RedirectReason;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable snapshot of the locale configuration of a {@link Builder}:
+ * default locale, compiled supported locales and redirect defaults.
+ * <p>The snapshot of the top-level builder additionally holds a host-keyed
+ * table with the snapshots of the {@link Builder#host(String, Builder)
+ * host configurations} and serves as fallback for all other hosts.
+ * <p>A snapshot is compiled once and never changed afterwards, so it can be
+ * read by any number of request threads without synchronization.
+ */
+final class LocaleSettings {
+
+    private static final char PATH_DELIMITER = '/';
+    private static final char QUERY_DELIMITER = '?';
+    final Locale defaultLocale;
+    final LocaleLookup supportedLocales;
+    final LocaleFallbackGraph fallbackLocales;
+    final LocaleLookup aliasLocales;
+    final PathExclusions excludedPaths;
+    final String vary;
+    final AlternateLinks alternateLinks;
+    private final Map<Locale, String> localePrefixes;
+    private final RedirectLocation redirectLocation;
+    private final AcceptLanguageNegotiator acceptLanguage;
+    private final Map<Locale, RedirectLocation> localeRedirectLocations;
+    private final Map<Locale, RedirectLocation> fallbackRedirectLocations;
+    private final Map<Locale, RedirectLocation> canonicalRedirectLocations;
+    private final Map<String, LocaleSettings> hosts;
+
+    private LocaleSettings(
+        Locale defaultLocale,
+        LocaleLookup supportedLocales,
+        LocaleFallbackGraph fallbackLocales,
+        LocaleLookup aliasLocales,
+        PathExclusions excludedPaths,
+        String vary,
+        AlternateLinks alternateLinks,
+        Map<Locale, String> localePrefixes,
+        RedirectLocation redirectLocation,
+        AcceptLanguageNegotiator acceptLanguage,
+        Map<Locale, RedirectLocation> localeRedirectLocations,
+        Map<Locale, RedirectLocation> fallbackRedirectLocations,
+        Map<Locale, RedirectLocation> canonicalRedirectLocations,
+        Map<String, LocaleSettings> hosts
+    ) {
+        this.defaultLocale = defaultLocale;
+        this.supportedLocales = supportedLocales;
+        this.fallbackLocales = fallbackLocales;
+        this.aliasLocales = aliasLocales;
+        this.excludedPaths = excludedPaths;
+        this.vary = vary;
+        this.alternateLinks = alternateLinks;
+        this.localePrefixes = localePrefixes;
+        this.redirectLocation = redirectLocation;
+        this.acceptLanguage = acceptLanguage;
+        this.localeRedirectLocations = localeRedirectLocations;
+        this.fallbackRedirectLocations = fallbackRedirectLocations;
+        this.canonicalRedirectLocations = canonicalRedirectLocations;
+        this.hosts = hosts;
+    }
+
+    /**
+     * Compiles the locale configuration of the given builder.
+     *
+     * @param builder builder carrying the configuration.
+     * @return the compiled snapshot.
+     * @throws IllegalArgumentException if the default locale of the builder
+     *                                  or of one of its hosts is
+     *                                  {@code null} or empty, or an
+     *                                  excluded path is invalid.
+     */
+    static LocaleSettings of(Builder builder) {
+        PathExclusions excludedPaths = PathExclusions.of(builder.excludePaths);
+        String vary = vary(builder.acceptLanguageRedirect, !builder.hosts.isEmpty());
+        Map<String, LocaleSettings> hosts = new HashMap<>();
+        builder.hosts.forEach(
+            (host, hostBuilder) -> hosts.put(host, of(hostBuilder, builder, excludedPaths, vary, Map.of()))
+        );
+
+        return of(builder, builder, excludedPaths, vary, Map.copyOf(hosts));
+    }
+
+    private static String vary(boolean acceptLanguageRedirect, boolean hosts) {
+        if (acceptLanguageRedirect && hosts) {
+            return HttpHeaders.ACCEPT_LANGUAGE + ", " + HttpHeaders.HOST;
+        }
+        if (acceptLanguageRedirect) {
+            return HttpHeaders.ACCEPT_LANGUAGE;
+        }
+        return hosts ? HttpHeaders.HOST : null;
+    }
+
+    /**
+     * @param builder       builder of the (host) configuration.
+     * @param root          top-level builder carrying the options that
+     *                      apply to all hosts.
+     * @param excludedPaths the compiled excluded paths of all hosts.
+     * @param vary          the {@code Vary} header value of all hosts.
+     * @param hosts         the compiled host configurations.
+     */
+    private static LocaleSettings of(
+        Builder builder,
+        Builder root,
+        PathExclusions excludedPaths,
+        String vary,
+        Map<String, LocaleSettings> hosts
+    ) {
+        Assert.notNull(builder.defaultLocale, "Default locale is null");
+        Assert.isTrue(!builder.defaultLocale.toString().trim().isEmpty(), "Default locale is empty");
+
+        // Without supported locales, the default locale is the only one.
+        List<Locale> supportedLocales = builder.supportedLocales != null && !builder.supportedLocales.isEmpty()
+            ? builder.supportedLocales
+            : List.of(builder.defaultLocale);
+        // Redirects to an unsupported default locale would loop.
+        Assert.isTrue(
+            supportedLocales.contains(builder.defaultLocale),
+            "Default locale is not a supported locale: " + builder.defaultLocale.toLanguageTag()
+        );
+        LocaleLookup supportedLookup = LocaleLookup.of(supportedLocales);
+        if (builder.defaultRequestURI != null) {
+            for (Locale locale : supportedLocales) {
+                assertRedirectTarget(
+                    String.format(builder.defaultRequestURI, formatLocale(locale)),
+                    supportedLookup,
+                    excludedPaths,
+                    root.canonicalRedirect
+                );
+            }
+        }
+        Map<Locale, String> localePrefixes = new HashMap<>();
+        localePrefixes.put(builder.defaultLocale, prefixOf(builder.defaultLocale));
+        for (Locale locale : supportedLocales) {
+            localePrefixes.putIfAbsent(locale, prefixOf(locale));
+        }
+        RedirectLocation redirectLocation = redirectLocation(
+            builder.defaultLocale,
+            builder.defaultRequestURI,
+            RedirectReason.UNSUPPORTED_LOCALE
+        );
+
+        Map<Locale, RedirectLocation> localeRedirectLocations = new HashMap<>();
+        Map<Locale, RedirectLocation> fallbackRedirectLocations = new HashMap<>();
+        for (Locale locale : supportedLocales) {
+            localeRedirectLocations.putIfAbsent(
+                locale,
+                redirectLocation(locale, builder.defaultRequestURI, RedirectReason.UNSUPPORTED_LOCALE)
+            );
+            fallbackRedirectLocations.putIfAbsent(
+                locale,
+                redirectLocation(locale, builder.defaultRequestURI, RedirectReason.FALLBACK_LOCALE)
+            );
+        }
+        localeRedirectLocations.put(builder.defaultLocale, redirectLocation);
+
+        // A canonical redirect keeps the path, a bare locale segment is
+        // redirected to the bare canonical prefix.
+        Map<Locale, RedirectLocation> canonicalRedirectLocations = new HashMap<>();
+        if (root.canonicalRedirect) {
+            localePrefixes.forEach(
+                (locale, prefix) -> canonicalRedirectLocations.put(
+                    locale,
+                    new RedirectLocation(prefix, prefix, RedirectReason.NON_CANONICAL_LOCALE)
+                )
+            );
+        }
+
+        return new LocaleSettings(
+            builder.defaultLocale,
+            supportedLookup,
+            LocaleFallbackGraph.of(supportedLocales, root.regionalFallback, root.fallbacks),
+            root.canonicalRedirect
+                ? LocaleAliases.of(supportedLocales, builder.defaultLocale)
+                : LocaleLookup.of(Map.of()),
+            excludedPaths,
+            vary,
+            root.alternateLinks
+                ? AlternateLinks.of(
+                    supportedLocales,
+                    builder.defaultLocale,
+                    builder.alternateLinksOrigin,
+                    root.alternateLinksCacheSize
+                )
+                : null,
+            Map.copyOf(localePrefixes),
+            redirectLocation,
+            root.acceptLanguageRedirect
+                ? new AcceptLanguageNegotiator(supportedLocales, builder.defaultLocale)
+                : null,
+            Map.copyOf(localeRedirectLocations),
+            Map.copyOf(fallbackRedirectLocations),
+            Map.copyOf(canonicalRedirectLocations),
+            hosts
+        );
+    }
+
+    /**
+     * Asserts that a redirect to the given target is not redirected again.
+     *
+     * @param target           the resolved default RequestURI.
+     * @param supportedLocales the supported locales.
+     * @param excludedPaths    the excluded paths.
+     * @param canonical        {@code true} if non-canonical spellings are
+     *                         redirected.
+     * @throws IllegalArgumentException if the target does not start with
+     *                                  a supported locale and is not
+     *                                  excluded.
+     */
+    private static void assertRedirectTarget(
+        String target,
+        LocaleLookup supportedLocales,
+        PathExclusions excludedPaths,
+        boolean canonical
+    ) {
+        Assert.isTrue(
+            !target.isEmpty() && target.charAt(0) == PATH_DELIMITER,
+            "Default RequestURI must start with /: " + target
+        );
+        if (excludedPaths.matches(target)) {
+            return;
+        }
+
+        int localeEnd = 1;
+        while (localeEnd < target.length() && target.charAt(localeEnd) != PATH_DELIMITER
+            && target.charAt(localeEnd) != QUERY_DELIMITER) {
+            localeEnd++;
+        }
+        Locale locale = supportedLocales.find(target, 1, localeEnd);
+        Assert.isTrue(
+            locale != null && (!canonical || prefixOf(locale).equals(target.substring(0, localeEnd))),
+            "Default RequestURI does not start with a supported locale: " + target
+        );
+    }
+
+    private static String prefixOf(Locale locale) {
+        return PATH_DELIMITER + formatLocale(locale);
+    }
+
+    private static RedirectLocation redirectLocation(
+        Locale locale,
+        String defaultRequestURI,
+        RedirectReason reason
+    ) {
+        String localePrefix = prefixOf(locale);
+        return new RedirectLocation(
+            localePrefix,
+            defaultRequestURI != null ? String.format(defaultRequestURI, formatLocale(locale)) : localePrefix,
+            reason
+        );
+    }
+
+    /**
+     * Returns the snapshot for the given host.
+     *
+     * @param serverName the host name of the request, may be {@code null}.
+     * @return the snapshot of the host configuration, or this snapshot if
+     *         the host has no own configuration.
+     */
+    LocaleSettings forHost(String serverName) {
+        if (this.hosts.isEmpty() || serverName == null) {
+            return this;
+        }
+
+        // Returns the same instance if the host name is lower case already.
+        LocaleSettings settings = this.hosts.get(serverName.toLowerCase(Locale.ROOT));
+        return settings != null ? settings : this;
+    }
+
+    /**
+     * Returns the pre-computed path prefix of the given locale, e.g.
+     * {@code /en-us}.
+     *
+     * @param locale the locale, may be {@code null}.
+     * @return the prefix of the locale if it is the default or a supported
+     *         locale, otherwise the prefix of the default locale.
+     */
+    String localePrefix(Locale locale) {
+        String localePrefix = locale != null ? this.localePrefixes.get(locale) : null;
+        return localePrefix != null ? localePrefix : this.localePrefixes.get(this.defaultLocale);
+    }
+
+    /**
+     * @return {@code true} if the redirect target depends on the
+     *         {@code Accept-Language} header.
+     */
+    boolean isAcceptLanguageRedirect() {
+        return this.acceptLanguage != null;
+    }
+
+    /**
+     * Returns the redirect location builder for the given request. If
+     * {@code Accept-Language} negotiation is enabled, the redirect target
+     * is prefixed with the best supported locale of the header, otherwise
+     * with the default locale.
+     *
+     * @param acceptLanguage the raw {@code Accept-Language} header value,
+     *                       may be {@code null}.
+     * @return the redirect location builder.
+     */
+    RedirectLocation redirectLocation(String acceptLanguage) {
+        if (this.acceptLanguage == null || acceptLanguage == null || acceptLanguage.isEmpty()) {
+            return this.redirectLocation;
+        }
+        return this.localeRedirectLocations.get(this.acceptLanguage.negotiate(acceptLanguage));
+    }
+
+    /**
+     * Returns the redirect location builder for a first path segment that
+     * is not supported but falls back to a supported locale, e.g.
+     * {@code de-at} to {@code de}.
+     *
+     * @param requestUri the raw request URI.
+     * @param localeEnd  index after the first path segment.
+     * @return the redirect location builder of the fallback locale, or
+     *         {@code null} if the segment has no fallback.
+     */
+    RedirectLocation fallbackRedirectLocation(String requestUri, int localeEnd) {
+        Locale locale = this.fallbackLocales.find(requestUri, 1, localeEnd);
+        return locale != null ? this.fallbackRedirectLocations.get(locale) : null;
+    }
+
+    /**
+     * Returns the locale the given path segment stands for: a supported
+     * locale in any accepted spelling, an alias of one or a locale that
+     * falls back to one.
+     *
+     * @param requestUri the raw request URI.
+     * @param start      index of the first character of the segment.
+     * @param end        index after the last character of the segment.
+     * @return the locale, or {@code null} if the segment is no known
+     *         locale.
+     */
+    Locale localeOf(String requestUri, int start, int end) {
+        Locale locale = this.supportedLocales.find(requestUri, start, end);
+        if (locale == null) {
+            locale = this.aliasLocales.find(requestUri, start, end);
+        }
+        return locale != null ? locale : this.fallbackLocales.find(requestUri, start, end);
+    }
+
+    /**
+     * Returns the locale a request that could not be resolved is
+     * redirected to, if it does not depend on the request headers.
+     *
+     * @param requestUri the raw request URI.
+     * @param localeEnd  index after the first path segment.
+     * @return the target locale, or {@code null} if it is negotiated from
+     *         the {@code Accept-Language} header.
+     */
+    Locale redirectLocale(String requestUri, int localeEnd) {
+        Locale locale = this.localeOf(requestUri, 1, localeEnd);
+        if (locale != null) {
+            return locale;
+        }
+        return this.acceptLanguage == null ? this.defaultLocale : null;
+    }
+
+    /**
+     * Resolves the first path segment to a supported locale in its
+     * canonical spelling, if canonical redirects are enabled.
+     *
+     * @param requestUri the raw request URI.
+     * @param localeEnd  index after the first path segment.
+     * @return the supported locale, or {@code null} if the request has to
+     *         be redirected.
+     */
+    Locale resolve(String requestUri, int localeEnd) {
+        Locale locale = this.supportedLocales.find(requestUri, 1, localeEnd);
+        return locale != null && this.isCanonical(locale, requestUri, localeEnd) ? locale : null;
+    }
+
+    /**
+     * Returns the redirect location builder for a request that could not be
+     * resolved: the canonical spelling of the first path segment if it is
+     * an alias, the fallback locale of the first path segment if it has
+     * one, otherwise the negotiated or default locale.
+     * <p>Each snapshot, target locale and reason has its own builder, which
+     * therefore tells the reason of the redirect, see
+     * {@link RedirectLocation#reason(int)}.
+     *
+     * @param requestUri     the raw request URI.
+     * @param localeEnd      index after the first path segment.
+     * @param acceptLanguage the raw {@code Accept-Language} header value,
+     *                       may be {@code null}.
+     * @return the redirect location builder.
+     */
+    RedirectLocation redirectLocation(String requestUri, int localeEnd, String acceptLanguage) {
+        RedirectLocation redirectLocation = this.canonicalRedirectLocation(requestUri, localeEnd);
+        if (redirectLocation == null) {
+            redirectLocation = this.fallbackRedirectLocation(requestUri, localeEnd);
+        }
+        return redirectLocation != null ? redirectLocation : this.redirectLocation(acceptLanguage);
+    }
+
+    /**
+     * Returns {@code false} if canonical redirects are enabled and the first
+     * path segment is not spelled exactly like the prefix of the given
+     * locale, e.g. {@code EN} or {@code en_US}.
+     *
+     * @param locale     the supported locale the segment resolved to.
+     * @param requestUri the raw request URI.
+     * @param localeEnd  index after the first path segment.
+     * @return {@code true} if the segment may be used as it is.
+     */
+    boolean isCanonical(Locale locale, String requestUri, int localeEnd) {
+        if (this.canonicalRedirectLocations.isEmpty()) {
+            return true;
+        }
+        String localePrefix = this.localePrefixes.get(locale);
+        return localePrefix.length() == localeEnd && requestUri.startsWith(localePrefix);
+    }
+
+    /**
+     * Returns the redirect location builder for a first path segment that
+     * is an alias of a supported locale, e.g. {@code en_US} or {@code iw}.
+     *
+     * @param requestUri the raw request URI.
+     * @param localeEnd  index after the first path segment.
+     * @return the redirect location builder of the canonical spelling, or
+     *         {@code null} if canonical redirects are disabled or the
+     *         segment is no alias.
+     */
+    RedirectLocation canonicalRedirectLocation(String requestUri, int localeEnd) {
+        Locale locale = this.aliasLocales.find(requestUri, 1, localeEnd);
+        return locale != null ? this.canonicalRedirectLocations.get(locale) : null;
+    }
+
+    /**
+     * Formats the given locale as path segment, i.e. its lower case language
+     * tag such as {@code en-us} or {@code zh-hant-tw}.
+     *
+     * @param locale the locale.
+     * @return the canonical path segment of the locale.
+     */
+    static String formatLocale(Locale locale) {
+        return locale.toLanguageTag().toLowerCase(Locale.ROOT);
+    }
+}
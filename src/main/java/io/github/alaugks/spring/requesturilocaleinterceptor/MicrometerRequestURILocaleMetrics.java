@@ -0,0 +1,118 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RequestURILocaleMetrics} backed by Micrometer.
+ * <p>Records the following meters:
+ * <ul>
+ *     <li>{@code requesturi.locale.resolved} counter, tagged with the
+ *     supported {@code locale},</li>
+ *     <li>{@code requesturi.locale.redirects} counter, tagged with the
+ *     {@code reason} ({@code root_path}, {@code unsupported_locale},
+ *     {@code fallback_locale} or {@code non_canonical_locale}),</li>
+ *     <li>{@code requesturi.locale.rejected} counter, tagged with the
+ *     {@code status} ({@code 400}, {@code 404} or {@code 429}) the
+ *     {@link RedirectGuard} answered with,</li>
+ *     <li>{@code requesturi.locale.prehandle} timer.</li>
+ * </ul>
+ * <p>Meters are registered once and kept in lock-free lookup tables, so
+ * recording does not go through the {@link MeterRegistry}. Micrometer is an
+ * optional dependency of this library and has to be added by the
+ * application.
+ */
+public class MicrometerRequestURILocaleMetrics implements RequestURILocaleMetrics {
+
+    static final String RESOLVED_METER = "requesturi.locale.resolved";
+    static final String REDIRECTS_METER = "requesturi.locale.redirects";
+    static final String REJECTED_METER = "requesturi.locale.rejected";
+    static final String PRE_HANDLE_METER = "requesturi.locale.prehandle";
+    private static final List<HttpStatus> REJECTED_STATUSES = List.of(
+        HttpStatus.BAD_REQUEST,
+        HttpStatus.NOT_FOUND,
+        HttpStatus.TOO_MANY_REQUESTS
+    );
+    private final MeterRegistry registry;
+    private final Map<Locale, Counter> resolved = new ConcurrentHashMap<>();
+    private final Map<RedirectReason, Counter> redirects = new EnumMap<>(RedirectReason.class);
+    private final Map<HttpStatus, Counter> rejected = new EnumMap<>(HttpStatus.class);
+    private final Timer preHandle;
+
+    /**
+     * Creates the metrics and registers the redirect and rejection
+     * counters and the {@code preHandle} timer on the given registry.
+     *
+     * @param registry the registry to register the meters on.
+     */
+    public MicrometerRequestURILocaleMetrics(MeterRegistry registry) {
+        Assert.notNull(registry, "MeterRegistry is null");
+        this.registry = registry;
+        for (RedirectReason reason : RedirectReason.values()) {
+            this.redirects.put(
+                reason,
+                Counter.builder(REDIRECTS_METER)
+                    .description("Requests redirected to a localized RequestURI")
+                    .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                    .register(registry)
+            );
+        }
+        for (HttpStatus status : REJECTED_STATUSES) {
+            this.rejected.put(
+                status,
+                Counter.builder(REJECTED_METER)
+                    .description("Requests answered by the redirect guard instead of a redirect")
+                    .tag("status", String.valueOf(status.value()))
+                    .register(registry)
+            );
+        }
+        this.preHandle = Timer.builder(PRE_HANDLE_METER)
+            .description("Duration of the locale resolution in preHandle")
+            .register(registry);
+    }
+
+    @Override
+    public void localeResolved(Locale locale) {
+        Counter counter = this.resolved.get(locale);
+        if (counter == null) {
+            counter = this.resolved.computeIfAbsent(
+                locale,
+                l -> Counter.builder(RESOLVED_METER)
+                    .description("Requests resolved to a supported locale")
+                    .tag("locale", l.toLanguageTag())
+                    .register(this.registry)
+            );
+        }
+        counter.increment();
+    }
+
+    @Override
+    public void redirected(RedirectReason reason) {
+        this.redirects.get(reason).increment();
+    }
+
+    @Override
+    public void rejected(HttpStatus status) {
+        Counter counter = this.rejected.get(status);
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    @Override
+    public void preHandleCompleted(long durationNanos) {
+        this.preHandle.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+}
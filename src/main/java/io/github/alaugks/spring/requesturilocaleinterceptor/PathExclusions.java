@@ -0,0 +1,155 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable matcher for request URIs that bypass locale handling, e.g.
+ * {@code /static/**} or {@code /actuator/**}.
+ * <p>All excluded paths are compiled into a single character trie. A request
+ * URI is matched by walking the trie once from its first character; a path
+ * matches if it ends at an excluded path or continues with a path delimiter
+ * after it. Matching neither allocates nor evaluates the excluded paths one
+ * by one, so its cost depends on the length of the matched prefix only.
+ */
+final class PathExclusions {
+
+    static final PathExclusions NONE = new PathExclusions(
+        new char[][]{new char[0]},
+        new int[][]{new int[0]},
+        new boolean[]{false}
+    );
+    private static final char PATH_DELIMITER = '/';
+    private static final String ANY_PATH = "/**";
+    private final char[][] labels;
+    private final int[][] children;
+    private final boolean[] terminal;
+
+    private PathExclusions(char[][] labels, int[][] children, boolean[] terminal) {
+        this.labels = labels;
+        this.children = children;
+        this.terminal = terminal;
+    }
+
+    /**
+     * Compiles the given paths into a matcher. A path must start with a path
+     * delimiter and may end with {@code /**}; {@code /static} and
+     * {@code /static/**} both exclude {@code /static} and everything below
+     * it.
+     *
+     * @param excludePaths the excluded paths.
+     * @return the compiled matcher.
+     * @throws IllegalArgumentException if a path is empty, does not start
+     *                                  with a path delimiter or contains a
+     *                                  wildcard other than a trailing
+     *                                  {@code /**}.
+     */
+    static PathExclusions of(Collection<String> excludePaths) {
+        if (excludePaths == null || excludePaths.isEmpty()) {
+            return NONE;
+        }
+
+        Node root = new Node();
+        for (String excludePath : excludePaths) {
+            Node node = root;
+            for (char c : normalize(excludePath).toCharArray()) {
+                node = node.children.computeIfAbsent(c, k -> new Node());
+            }
+            node.terminal = true;
+        }
+
+        // Flatten breadth-first into arrays, node 0 is the root.
+        List<Node> nodes = new ArrayList<>();
+        Queue<Node> queue = new ArrayDeque<>();
+        root.index = 0;
+        nodes.add(root);
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            for (Node child : queue.poll().children.values()) {
+                child.index = nodes.size();
+                nodes.add(child);
+                queue.add(child);
+            }
+        }
+
+        char[][] labels = new char[nodes.size()][];
+        int[][] children = new int[nodes.size()][];
+        boolean[] terminal = new boolean[nodes.size()];
+        for (Node node : nodes) {
+            labels[node.index] = new char[node.children.size()];
+            children[node.index] = new int[node.children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                labels[node.index][i] = child.getKey();
+                children[node.index][i] = child.getValue().index;
+                i++;
+            }
+            terminal[node.index] = node.terminal;
+        }
+
+        return new PathExclusions(labels, children, terminal);
+    }
+
+    private static String normalize(String excludePath) {
+        Assert.hasText(excludePath, "Exclude path is empty");
+        Assert.isTrue(
+            excludePath.charAt(0) == PATH_DELIMITER,
+            "Exclude path must start with " + PATH_DELIMITER + ": " + excludePath
+        );
+
+        String path = excludePath.endsWith(ANY_PATH)
+            ? excludePath.substring(0, excludePath.length() - ANY_PATH.length())
+            : excludePath;
+        Assert.isTrue(
+            path.indexOf('*') == -1 && path.indexOf('?') == -1 && path.indexOf('{') == -1,
+            "Exclude path supports only a trailing " + ANY_PATH + ": " + excludePath
+        );
+
+        int end = path.length();
+        while (end > 0 && path.charAt(end - 1) == PATH_DELIMITER) {
+            end--;
+        }
+        return path.substring(0, end);
+    }
+
+    /**
+     * @param requestUri the raw request URI.
+     * @return {@code true} if the request URI is excluded from locale
+     *         handling.
+     */
+    boolean matches(String requestUri) {
+        int length = requestUri.length();
+        int node = 0;
+        for (int i = 0; ; i++) {
+            if (this.terminal[node] && (i == length || requestUri.charAt(i) == PATH_DELIMITER)) {
+                return true;
+            }
+            if (i == length) {
+                return false;
+            }
+
+            int child = Arrays.binarySearch(this.labels[node], requestUri.charAt(i));
+            if (child < 0) {
+                return false;
+            }
+            node = this.children[node][child];
+        }
+    }
+
+    private static final class Node {
+
+        final Map<Character, Node> children = new TreeMap<>();
+        boolean terminal;
+        int index;
+    }
+}
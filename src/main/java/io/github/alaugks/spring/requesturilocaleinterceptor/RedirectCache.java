@@ -0,0 +1,235 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import io.github.alaugks.spring.requesturilocaleinterceptor.RequestURILocaleMetrics.RedirectReason;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.util.Assert;
+
+/**
+ * Size-bounded cache of redirect {@code Location} values computed by
+ * {@link RequestURILocaleInterceptor}, keyed on configuration snapshot,
+ * request URI, query string and, if redirects are negotiated, the
+ * {@code Accept-Language} header. A hit skips the locale lookups as well as
+ * building the location.
+ * <p>The cache is safe for concurrent access without a global lock: entries
+ * live in a {@link ConcurrentHashMap}, insertion order is tracked in a
+ * lock-free queue and hits, misses and evictions are counted with
+ * {@link LongAdder}s. Once the maximum size is exceeded, entries are evicted
+ * according to the configured {@link Eviction} policy. Map and queue are
+ * held together and replaced as one by {@link #clear()}, so a concurrent
+ * {@code put} never leaves an entry behind that cannot be evicted.
+ * <p>A cache instance belongs to exactly one interceptor, because the cached
+ * values depend on its configuration.
+ */
+public final class RedirectCache {
+
+    /**
+     * Eviction policy applied when the cache exceeds its maximum size.
+     */
+    public enum Eviction {
+        /**
+         * Evicts the least recently used entries, approximated with the
+         * CLOCK (second chance) algorithm: an entry read since it was last
+         * inspected is kept for another round.
+         */
+        LRU,
+        /**
+         * Evicts the oldest entries in insertion order, regardless of how
+         * often they are read.
+         */
+        FIFO
+    }
+
+    private final int maximumSize;
+    private final Eviction eviction;
+    private volatile Store store = new Store();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new cache with {@link Eviction#LRU LRU} eviction.
+     *
+     * @param maximumSize the maximum number of cached redirect locations.
+     * @throws IllegalArgumentException if the maximum size is not positive.
+     */
+    public RedirectCache(int maximumSize) {
+        this(maximumSize, Eviction.LRU);
+    }
+
+    /**
+     * Creates a new cache with the given eviction policy.
+     *
+     * @param maximumSize the maximum number of cached redirect locations.
+     * @param eviction    the eviction policy.
+     * @throws IllegalArgumentException if the maximum size is not positive
+     *                                  or the eviction policy is
+     *                                  {@code null}.
+     */
+    public RedirectCache(int maximumSize, Eviction eviction) {
+        Assert.isTrue(maximumSize > 0, "Maximum size must be greater than 0");
+        Assert.notNull(eviction, "Eviction is null");
+        this.maximumSize = maximumSize;
+        this.eviction = eviction;
+    }
+
+    /**
+     * Returns the cached redirect for the given request.
+     *
+     * @param scope          the configuration snapshot the redirect was
+     *                       computed with; entries of other snapshots miss.
+     * @param requestUri     the raw request URI.
+     * @param queryString    the raw query string, may be {@code null}.
+     * @param acceptLanguage the raw {@code Accept-Language} header value if
+     *                       redirects are negotiated, otherwise
+     *                       {@code null}.
+     * @return the cached redirect, or {@code null} on a miss.
+     */
+    Entry get(Object scope, String requestUri, String queryString, String acceptLanguage) {
+        Entry entry = this.store.entries.get(new Key(scope, requestUri, queryString, acceptLanguage));
+        if (entry == null) {
+            this.misses.increment();
+            return null;
+        }
+
+        this.hits.increment();
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry;
+    }
+
+    /**
+     * Caches the redirect for the given request and evicts entries if the
+     * maximum size is exceeded.
+     *
+     * @param scope          the configuration snapshot the redirect was
+     *                       computed with.
+     * @param requestUri     the raw request URI.
+     * @param queryString    the raw query string, may be {@code null}.
+     * @param acceptLanguage the raw {@code Accept-Language} header value if
+     *                       redirects are negotiated, otherwise
+     *                       {@code null}.
+     * @param location       the computed redirect location.
+     * @param reason         the reason of the redirect.
+     */
+    void put(
+        Object scope,
+        String requestUri,
+        String queryString,
+        String acceptLanguage,
+        String location,
+        RedirectReason reason
+    ) {
+        Key key = new Key(scope, requestUri, queryString, acceptLanguage);
+        // A put racing with clear() writes into the discarded store.
+        Store store = this.store;
+        if (store.entries.putIfAbsent(key, new Entry(location, reason)) == null) {
+            store.insertionOrder.offer(key);
+            this.evict(store);
+        }
+    }
+
+    private void evict(Store store) {
+        while (store.entries.size() > this.maximumSize) {
+            Key key = store.insertionOrder.poll();
+            if (key == null) {
+                return;
+            }
+
+            Entry entry = store.entries.get(key);
+            if (entry == null) {
+                continue;
+            }
+
+            if (this.eviction == Eviction.LRU && entry.referenced) {
+                entry.referenced = false;
+                store.insertionOrder.offer(key);
+            } else if (store.entries.remove(key, entry)) {
+                this.evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes all cached redirect locations. The counters are kept.
+     */
+    public void clear() {
+        this.store = new Store();
+    }
+
+    /**
+     * @return the number of cached redirect locations.
+     */
+    public int size() {
+        return this.store.entries.size();
+    }
+
+    /**
+     * @return the maximum number of cached redirect locations.
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * @return the eviction policy.
+     */
+    public Eviction getEviction() {
+        return this.eviction;
+    }
+
+    /**
+     * @return the number of lookups that returned a cached location.
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that found no cached location.
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * @return the number of entries evicted because the maximum size was
+     *         exceeded.
+     */
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    private record Key(Object scope, String requestUri, String queryString, String acceptLanguage) {
+
+    }
+
+    private static final class Store {
+
+        final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+        final Queue<Key> insertionOrder = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * A cached redirect: the location together with its reason, so hits
+     * are reported to metrics and redirect source tracker like misses.
+     */
+    static final class Entry {
+
+        final String location;
+        final RedirectReason reason;
+        volatile boolean referenced;
+
+        Entry(String location, RedirectReason reason) {
+            this.location = location;
+            this.reason = reason;
+        }
+    }
+}
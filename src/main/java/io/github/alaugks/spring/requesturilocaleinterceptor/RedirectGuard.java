@@ -0,0 +1,329 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.net.InetSocketAddress;
+import java.util.Locale;
+import java.util.function.Function;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.Assert;
+
+/**
+ * Rejects requests that would be redirected although a redirect cannot
+ * help, so hostile or broken clients cannot make the interceptor issue
+ * unlimited redirects. Instead of a redirect, the request is answered with
+ * a bare status code:
+ * <ul>
+ *     <li>{@code 400 Bad Request} if the RequestURI exceeds the maximum
+ *     length,</li>
+ *     <li>{@code 404 Not Found} if the redirect target would start with
+ *     more locale segments than allowed, e.g. {@code /xx/de/en/...}, or
+ *     with the same locale twice, e.g. {@code /xx/en/...} redirected to
+ *     {@code /en/en/...},</li>
+ *     <li>{@code 429 Too Many Requests} if the client exceeds its redirect
+ *     rate, if a rate limit is defined.</li>
+ * </ul>
+ * <p>Only requests that would be redirected are checked; requests with a
+ * supported locale are never rejected. Only segments that stand for a
+ * supported locale, an alias or a fallback of one count as locale
+ * segments, so ordinary short segments such as {@code /api/v1/...} are
+ * redirected. The checks scan the RequestURI by index and do not
+ * allocate.
+ * <p>The rate limit is keyed on the remote address by default. Behind a
+ * reverse proxy or load balancer, all clients share the address of the
+ * proxy, unless the forwarded client address is applied, e.g. by
+ * {@code ForwardedHeaderFilter}, Tomcat's {@code RemoteIpValve} or
+ * {@code server.forward-headers-strategy}. Otherwise, or to key on
+ * something else, define the key via {@link Builder#clientKey(Function)}
+ * and {@link Builder#reactiveClientKey(Function)}.
+ * <p>Use {@link #builder()} to obtain a {@link Builder}. A guard is
+ * thread-safe and must not be shared between interceptors if a rate limit
+ * is defined.
+ */
+public final class RedirectGuard {
+
+    /**
+     * Default maximum length of a redirected RequestURI.
+     */
+    public static final int DEFAULT_MAX_REQUEST_URI_LENGTH = 2048;
+    /**
+     * Default maximum number of leading locale segments of a redirect
+     * target.
+     */
+    public static final int DEFAULT_MAX_LOCALE_SEGMENTS = 2;
+    /**
+     * Default number of token buckets of the rate limit.
+     */
+    public static final int DEFAULT_RATE_LIMIT_BUCKETS = 4096;
+    private static final char PATH_DELIMITER = '/';
+    final int maxRequestURILength;
+    final int maxLocaleSegments;
+    private final TokenBuckets rateLimit;
+    private final Function<HttpServletRequest, String> clientKey;
+    private final Function<ServerHttpRequest, String> reactiveClientKey;
+
+    private RedirectGuard(Builder builder) {
+        this.maxRequestURILength = builder.maxRequestURILength;
+        this.maxLocaleSegments = builder.maxLocaleSegments;
+        this.rateLimit = builder.permitsPerSecond > 0
+            ? new TokenBuckets(builder.permitsPerSecond, builder.burst, builder.buckets)
+            : null;
+        this.clientKey = builder.clientKey;
+        this.reactiveClientKey = builder.reactiveClientKey;
+    }
+
+    /**
+     * Creates a new {@link Builder}, pre-configured with a maximum
+     * RequestURI length of {@value #DEFAULT_MAX_REQUEST_URI_LENGTH}, at most
+     * {@value #DEFAULT_MAX_LOCALE_SEGMENTS} leading locale segments and
+     * no rate limit.
+     *
+     * @return a new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Checks a Servlet request that would be redirected. The client key is
+     * only derived if a rate limit is defined.
+     *
+     * @param settings   the snapshot read for this request.
+     * @param requestUri the raw request URI.
+     * @param localeEnd  index after the first path segment.
+     * @param request    the current HTTP request.
+     * @return the status to answer with, or {@code null} to redirect.
+     */
+    HttpStatus check(LocaleSettings settings, String requestUri, int localeEnd, HttpServletRequest request) {
+        return this.check(settings, requestUri, localeEnd, this.rateLimit != null ? this.clientKey.apply(request) : null);
+    }
+
+    /**
+     * Checks a reactive request that would be redirected. The client key is
+     * only derived if a rate limit is defined.
+     *
+     * @param settings   the snapshot read for this request.
+     * @param requestUri the raw request URI.
+     * @param localeEnd  index after the first path segment.
+     * @param request    the current HTTP request.
+     * @return the status to answer with, or {@code null} to redirect.
+     */
+    HttpStatus check(LocaleSettings settings, String requestUri, int localeEnd, ServerHttpRequest request) {
+        return this.check(
+            settings,
+            requestUri,
+            localeEnd,
+            this.rateLimit != null ? this.reactiveClientKey.apply(request) : null
+        );
+    }
+
+    /**
+     * Checks a request that would be redirected.
+     *
+     * @param settings   the snapshot read for this request.
+     * @param requestUri the raw request URI.
+     * @param localeEnd  index after the first path segment.
+     * @param client     the client key, e.g. its address, may be
+     *                   {@code null}.
+     * @return the status to answer with, or {@code null} to redirect.
+     */
+    HttpStatus check(LocaleSettings settings, String requestUri, int localeEnd, String client) {
+        HttpStatus status = this.check(settings, requestUri, localeEnd);
+        if (status == null && this.rateLimit != null && !this.rateLimit.tryAcquire(client != null ? client : "")) {
+            return HttpStatus.TOO_MANY_REQUESTS;
+        }
+        return status;
+    }
+
+    /**
+     * Checks a request that would be redirected, without the rate limit.
+     *
+     * @param settings   the snapshot read for this request.
+     * @param requestUri the raw request URI.
+     * @param localeEnd  index after the first path segment.
+     * @return the status to answer with, or {@code null} to redirect.
+     */
+    HttpStatus check(LocaleSettings settings, String requestUri, int localeEnd) {
+        if (requestUri.length() > this.maxRequestURILength) {
+            return HttpStatus.BAD_REQUEST;
+        }
+        if (localeEnd <= 1 || localeEnd >= requestUri.length() - 1) {
+            // Root path or a single segment, the redirect target has one
+            // locale segment at most.
+            return null;
+        }
+
+        int start = localeEnd + 1;
+        int end = segmentEnd(requestUri, start);
+        Locale locale = settings.localeOf(requestUri, start, end);
+        if (locale == null) {
+            return null;
+        }
+        if (locale.equals(settings.redirectLocale(requestUri, localeEnd))) {
+            return HttpStatus.NOT_FOUND;
+        }
+
+        // The redirect replaces the first segment with a locale prefix.
+        int count = 2;
+        while (count <= this.maxLocaleSegments && end < requestUri.length() - 1) {
+            start = end + 1;
+            end = segmentEnd(requestUri, start);
+            if (settings.localeOf(requestUri, start, end) == null) {
+                return null;
+            }
+            count++;
+        }
+        return count > this.maxLocaleSegments ? HttpStatus.NOT_FOUND : null;
+    }
+
+    private static int segmentEnd(String requestUri, int start) {
+        int end = requestUri.indexOf(PATH_DELIMITER, start);
+        return end != -1 ? end : requestUri.length();
+    }
+
+    private static String remoteAddress(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return remoteAddress != null ? remoteAddress.getHostString() : null;
+    }
+
+    /**
+     * Fluent builder for a {@link RedirectGuard}.
+     */
+    public static final class Builder {
+
+        private int maxRequestURILength = DEFAULT_MAX_REQUEST_URI_LENGTH;
+        private int maxLocaleSegments = DEFAULT_MAX_LOCALE_SEGMENTS;
+        private int permitsPerSecond;
+        private int burst;
+        private int buckets = DEFAULT_RATE_LIMIT_BUCKETS;
+        private Function<HttpServletRequest, String> clientKey = HttpServletRequest::getRemoteAddr;
+        private Function<ServerHttpRequest, String> reactiveClientKey = RedirectGuard::remoteAddress;
+
+        private Builder() {
+        }
+
+        /**
+         * Defines the maximum length of a RequestURI that is redirected.
+         * Longer RequestURIs are answered with {@code 400 Bad Request}.
+         *
+         * @param maxRequestURILength the maximum length.
+         * @return this builder for chaining.
+         * @throws IllegalArgumentException if the length is not positive.
+         */
+        public Builder maxRequestURILength(int maxRequestURILength) {
+            Assert.isTrue(maxRequestURILength > 0, "Maximum RequestURI length must be greater than 0");
+            this.maxRequestURILength = maxRequestURILength;
+            return this;
+        }
+
+        /**
+         * Defines how many leading locale segments, i.e. supported
+         * locales, aliases or fallbacks of one, the redirect target may
+         * start with. RequestURIs with more are answered with
+         * {@code 404 Not Found}, e.g. {@code /xx/de/en/home}, which would
+         * be redirected to {@code /en/de/en/home}, with the default of
+         * {@value #DEFAULT_MAX_LOCALE_SEGMENTS}.
+         *
+         * @param maxLocaleSegments the maximum number of segments.
+         * @return this builder for chaining.
+         * @throws IllegalArgumentException if the number is not positive.
+         */
+        public Builder maxLocaleSegments(int maxLocaleSegments) {
+            Assert.isTrue(maxLocaleSegments > 0, "Maximum locale segments must be greater than 0");
+            this.maxLocaleSegments = maxLocaleSegments;
+            return this;
+        }
+
+        /**
+         * Limits the redirects per client, keyed on the remote address
+         * unless defined otherwise via {@link #clientKey(Function)}.
+         * Clients exceeding the limit are answered with
+         * {@code 429 Too Many Requests}. Not set by default.
+         * <p>Behind a reverse proxy or load balancer, the remote address is
+         * the one of the proxy unless {@code ForwardedHeaderFilter},
+         * {@code RemoteIpValve} or an equivalent applies the forwarded
+         * client address, otherwise all clients share one limit.
+         *
+         * @param permitsPerSecond redirects a client may receive per
+         *                         second on average.
+         * @param burst            redirects a client may receive at once.
+         * @return this builder for chaining.
+         * @throws IllegalArgumentException if a value is not positive or
+         *                                  the burst is too large.
+         */
+        public Builder rateLimit(int permitsPerSecond, int burst) {
+            Assert.isTrue(permitsPerSecond > 0, "Permits per second must be greater than 0");
+            Assert.isTrue(
+                burst > 0 && burst <= TokenBuckets.MAX_BURST,
+                "Burst must be between 1 and " + TokenBuckets.MAX_BURST
+            );
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Defines the number of token buckets of the rate limit. Clients
+         * are spread across the buckets by hash, clients sharing a bucket
+         * share their limit. Defaults to
+         * {@value #DEFAULT_RATE_LIMIT_BUCKETS}.
+         *
+         * @param buckets the number of buckets, rounded up to a power of
+         *                two.
+         * @return this builder for chaining.
+         * @throws IllegalArgumentException if the number is not positive.
+         */
+        public Builder rateLimitBuckets(int buckets) {
+            Assert.isTrue(buckets > 0, "Rate limit buckets must be greater than 0");
+            this.buckets = buckets;
+            return this;
+        }
+
+        /**
+         * Defines how the rate limit key of a client is derived from a
+         * Servlet request, used by {@link RequestURILocaleInterceptor} and
+         * {@link RequestURILocaleFilter}, e.g. from a header set by a
+         * trusted proxy or from an API key. Only called for requests that
+         * would be redirected; a {@code null} key is shared by all such
+         * clients. Defaults to {@link HttpServletRequest#getRemoteAddr()}.
+         *
+         * @param clientKey derives the client key from the request.
+         * @return this builder for chaining.
+         * @throws IllegalArgumentException if the function is
+         *                                  {@code null}.
+         */
+        public Builder clientKey(Function<HttpServletRequest, String> clientKey) {
+            Assert.notNull(clientKey, "Client key is null");
+            this.clientKey = clientKey;
+            return this;
+        }
+
+        /**
+         * Defines how the rate limit key of a client is derived from a
+         * reactive request, used by {@link RequestURILocaleWebFilter}, see
+         * {@link #clientKey(Function)}. Defaults to the host of
+         * {@link ServerHttpRequest#getRemoteAddress()}.
+         *
+         * @param reactiveClientKey derives the client key from the
+         *                          request.
+         * @return this builder for chaining.
+         * @throws IllegalArgumentException if the function is
+         *                                  {@code null}.
+         */
+        public Builder reactiveClientKey(Function<ServerHttpRequest, String> reactiveClientKey) {
+            Assert.notNull(reactiveClientKey, "Client key is null");
+            this.reactiveClientKey = reactiveClientKey;
+            return this;
+        }
+
+        /**
+         * @return the configured guard.
+         */
+        public RedirectGuard build() {
+            return new RedirectGuard(this);
+        }
+    }
+}
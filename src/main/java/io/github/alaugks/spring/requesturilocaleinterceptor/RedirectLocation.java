@@ -0,0 +1,95 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import io.github.alaugks.spring.requesturilocaleinterceptor.RequestURILocaleMetrics.RedirectReason;
+
+/**
+ * Builds the {@code Location} of a locale redirect.
+ * <p>The request URI is scanned by index once: the first path segment is
+ * replaced by the locale prefix and the remaining path is kept, including a
+ * single trailing slash. If no path remains, the default RequestURI is used.
+ * The raw query string is appended exactly as it arrived. The result is
+ * written into one right-sized buffer.
+ * <p>Each builder knows why it is chosen, so the reason of a redirect is
+ * known without looking up the first path segment again.
+ */
+final class RedirectLocation {
+
+    private static final char PATH_DELIMITER = '/';
+    private static final char QUERY_DELIMITER = '?';
+    private final String localePrefix;
+    private final String defaultRequestURI;
+    private final RedirectReason reason;
+
+    /**
+     * Creates a new redirect location builder.
+     *
+     * @param localePrefix      the prefix replacing the first path segment,
+     *                          e.g. {@code /en}.
+     * @param defaultRequestURI the resolved default RequestURI, used if no
+     *                          path remains.
+     * @param reason            why requests are redirected with this
+     *                          builder; {@link RedirectReason#UNSUPPORTED_LOCALE}
+     *                          also covers the root path.
+     */
+    RedirectLocation(String localePrefix, String defaultRequestURI, RedirectReason reason) {
+        this.localePrefix = localePrefix;
+        this.defaultRequestURI = defaultRequestURI;
+        this.reason = reason;
+    }
+
+    /**
+     * Returns why the given request is redirected with this builder.
+     *
+     * @param localeEnd index after the first path segment.
+     * @return the reason of the redirect.
+     */
+    RedirectReason reason(int localeEnd) {
+        return localeEnd == 1 && this.reason == RedirectReason.UNSUPPORTED_LOCALE
+            ? RedirectReason.ROOT_PATH
+            : this.reason;
+    }
+
+    /**
+     * Builds path and query of the redirect target for the given request.
+     *
+     * @param requestUri  the raw request URI.
+     * @param localeEnd   index after the first path segment.
+     * @param queryString the raw query string, may be {@code null}.
+     * @return path and query of the redirect target.
+     */
+    String build(String requestUri, int localeEnd, String queryString) {
+        int pathEnd = requestUri.length();
+        boolean trailingSlash = pathEnd > localeEnd && requestUri.charAt(pathEnd - 1) == PATH_DELIMITER;
+        while (pathEnd > localeEnd && requestUri.charAt(pathEnd - 1) == PATH_DELIMITER) {
+            pathEnd--;
+        }
+
+        boolean hasPath = pathEnd > localeEnd;
+        boolean hasQuery = queryString != null && !queryString.isEmpty();
+
+        int capacity = hasPath
+            ? this.localePrefix.length() + (pathEnd - localeEnd) + (trailingSlash ? 1 : 0)
+            : this.defaultRequestURI.length();
+        if (hasQuery) {
+            capacity += 1 + queryString.length();
+        }
+
+        StringBuilder location = new StringBuilder(capacity);
+        if (hasPath) {
+            location.append(this.localePrefix).append(requestUri, localeEnd, pathEnd);
+            if (trailingSlash) {
+                location.append(PATH_DELIMITER);
+            }
+        } else {
+            location.append(this.defaultRequestURI);
+        }
+        if (hasQuery) {
+            location.append(QUERY_DELIMITER).append(queryString);
+        }
+
+        return location.toString();
+    }
+}
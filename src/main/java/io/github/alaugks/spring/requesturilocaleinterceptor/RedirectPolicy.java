@@ -0,0 +1,203 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.Set;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+
+/**
+ * Defines the response of a locale redirect: status code, caching headers
+ * and whether the {@code Location} is absolute, e.g. to let a CDN cache
+ * redirects with a permanent status.
+ * <p>Without a policy, redirects are sent with
+ * {@link HttpServletResponse#sendRedirect(String)}, an uncacheable
+ * {@code 302 Found}. With a policy, a {@code Vary} header is added if the
+ * redirect target depends on the {@code Accept-Language} header or the host.
+ * <p>Use {@link #builder()} to obtain a {@link Builder}. A policy is
+ * immutable; header values are computed once at {@link Builder#build()}.
+ */
+public final class RedirectPolicy {
+
+    private static final Set<HttpStatus> REDIRECT_STATUS = Set.of(
+        HttpStatus.MOVED_PERMANENTLY,
+        HttpStatus.FOUND,
+        HttpStatus.TEMPORARY_REDIRECT,
+        HttpStatus.PERMANENT_REDIRECT
+    );
+    private static final String HTTP = "http";
+    private static final String HTTPS = "https";
+    final HttpStatus status;
+    final String cacheControl;
+    final long expiresMillis;
+    final boolean absoluteLocation;
+
+    private RedirectPolicy(Builder builder) {
+        this.status = builder.status;
+        this.cacheControl = builder.cacheControl != null ? builder.cacheControl.getHeaderValue() : null;
+        this.expiresMillis = builder.expires != null ? builder.expires.toMillis() : -1;
+        this.absoluteLocation = builder.absoluteLocation;
+    }
+
+    /**
+     * Creates a new {@link Builder}, pre-configured with
+     * {@code 302 Found}, no caching headers and a relative
+     * {@code Location}.
+     *
+     * @return a new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the status code of redirects.
+     */
+    public HttpStatus getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Sends the redirect to the given location according to this policy.
+     *
+     * @param request  the current HTTP request.
+     * @param response the current HTTP response.
+     * @param location path and query of the redirect target.
+     * @param vary     the value of the {@code Vary} header, may be
+     *                 {@code null}.
+     */
+    void sendRedirect(HttpServletRequest request, HttpServletResponse response, String location, String vary) {
+        response.setStatus(this.status.value());
+        response.setHeader(
+            HttpHeaders.LOCATION,
+            this.absoluteLocation
+                ? this.absoluteLocation(request.getScheme(), request.getServerName(), request.getServerPort(), location)
+                : location
+        );
+        if (this.cacheControl != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, this.cacheControl);
+        }
+        if (this.expiresMillis >= 0) {
+            response.setDateHeader(HttpHeaders.EXPIRES, System.currentTimeMillis() + this.expiresMillis);
+        }
+        if (vary != null) {
+            response.setHeader(HttpHeaders.VARY, vary);
+        }
+    }
+
+    /**
+     * Prefixes the given location with scheme, host and non-default port.
+     *
+     * @param scheme   the request scheme.
+     * @param host     the request host.
+     * @param port     the request port, or {@code -1} if unknown.
+     * @param location path and query of the redirect target.
+     * @return the absolute location.
+     */
+    String absoluteLocation(String scheme, String host, int port, String location) {
+        boolean defaultPort = port < 0
+            || (HTTP.equalsIgnoreCase(scheme) && port == 80)
+            || (HTTPS.equalsIgnoreCase(scheme) && port == 443);
+        boolean ipv6 = host.indexOf(':') != -1 && host.charAt(0) != '[';
+
+        StringBuilder absoluteLocation = new StringBuilder(scheme.length() + host.length() + location.length() + 10)
+            .append(scheme)
+            .append("://");
+        if (ipv6) {
+            absoluteLocation.append('[').append(host).append(']');
+        } else {
+            absoluteLocation.append(host);
+        }
+        if (!defaultPort) {
+            absoluteLocation.append(':').append(port);
+        }
+        return absoluteLocation.append(location).toString();
+    }
+
+    /**
+     * Fluent builder for a {@link RedirectPolicy}.
+     */
+    public static final class Builder {
+
+        private HttpStatus status = HttpStatus.FOUND;
+        private CacheControl cacheControl;
+        private Duration expires;
+        private boolean absoluteLocation;
+
+        private Builder() {
+        }
+
+        /**
+         * Defines the status code of redirects. Permanent redirects
+         * ({@code 301}, {@code 308}) are cached by browsers and CDNs
+         * without further headers.
+         *
+         * @param status {@code 301}, {@code 302}, {@code 307} or
+         *               {@code 308}.
+         * @return this builder for chaining.
+         * @throws IllegalArgumentException if the status is not one of the
+         *                                  supported redirect codes.
+         */
+        public Builder status(HttpStatus status) {
+            Assert.isTrue(
+                REDIRECT_STATUS.contains(status),
+                "Redirect status must be 301, 302, 307 or 308"
+            );
+            this.status = status;
+            return this;
+        }
+
+        /**
+         * Defines the {@code Cache-Control} header of redirects, e.g.
+         * {@code CacheControl.maxAge(Duration.ofHours(1)).cachePublic()}.
+         * Not set by default.
+         *
+         * @param cacheControl the cache control directives.
+         * @return this builder for chaining.
+         */
+        public Builder cacheControl(CacheControl cacheControl) {
+            this.cacheControl = cacheControl;
+            return this;
+        }
+
+        /**
+         * Defines the {@code Expires} header of redirects, relative to the
+         * time the redirect is sent. Not set by default.
+         *
+         * @param expires time until the redirect expires.
+         * @return this builder for chaining.
+         * @throws IllegalArgumentException if the duration is negative.
+         */
+        public Builder expires(Duration expires) {
+            Assert.isTrue(expires == null || !expires.isNegative(), "Expires must not be negative");
+            this.expires = expires;
+            return this;
+        }
+
+        /**
+         * Sends an absolute {@code Location} built from scheme, host and
+         * port of the request instead of path and query only. Disabled by
+         * default.
+         *
+         * @param absoluteLocation {@code true} for an absolute location.
+         * @return this builder for chaining.
+         */
+        public Builder absoluteLocation(boolean absoluteLocation) {
+            this.absoluteLocation = absoluteLocation;
+            return this;
+        }
+
+        /**
+         * @return the configured policy.
+         */
+        public RedirectPolicy build() {
+            return new RedirectPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import io.github.alaugks.spring.requesturilocaleinterceptor.RequestURILocaleMetrics.RedirectReason;
+import java.util.List;
+import org.springframework.util.Assert;
+
+/**
+ * Tracks the most frequent sources of redirects issued by
+ * {@link RequestURILocaleInterceptor}: the unmatched first path segments,
+ * e.g. {@code wp-admin} or a missing locale, and the redirected request
+ * paths, e.g. a broken campaign link.
+ * <p>Counts are estimated in a fixed-size streaming sketch with a fixed
+ * table of top entries, updated lock-free on the redirect path. Memory
+ * therefore stays constant no matter how many distinct paths are
+ * requested; the counts of the top entries are upper bounds of the actual
+ * counts.
+ * <p>A tracker instance belongs to exactly one interceptor. With Spring Boot
+ * Actuator, the top entries are available through the
+ * {@link RequestURILocaleEndpoint}.
+ */
+public final class RedirectSourceTracker {
+
+    /**
+     * Default number of tracked top entries.
+     */
+    public static final int DEFAULT_CAPACITY = 20;
+    private static final int SKETCH_WIDTH_PER_ENTRY = 64;
+    private final int capacity;
+    private final HeavyHitters segments;
+    private final HeavyHitters paths;
+
+    /**
+     * Creates a new tracker of the {@value #DEFAULT_CAPACITY} most frequent
+     * segments and paths.
+     */
+    public RedirectSourceTracker() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new tracker.
+     *
+     * @param capacity the number of tracked top segments and paths.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public RedirectSourceTracker(int capacity) {
+        Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+        this.capacity = capacity;
+        this.segments = new HeavyHitters(capacity * SKETCH_WIDTH_PER_ENTRY, capacity);
+        this.paths = new HeavyHitters(capacity * SKETCH_WIDTH_PER_ENTRY, capacity);
+    }
+
+    /**
+     * Counts a redirected request.
+     *
+     * @param requestUri the raw request URI.
+     * @param localeEnd  index after the first path segment.
+     * @param reason     the reason of the redirect.
+     */
+    void redirected(String requestUri, int localeEnd, RedirectReason reason) {
+        if (reason != RedirectReason.ROOT_PATH) {
+            this.segments.add(requestUri, 1, localeEnd);
+        }
+        this.paths.add(requestUri, 0, requestUri.length());
+    }
+
+    /**
+     * @return the most frequent unmatched first path segments, without
+     *         slashes, highest count first.
+     */
+    public List<Source> getTopSegments() {
+        return this.segments.top();
+    }
+
+    /**
+     * @return the most frequent redirected request paths, without query
+     *         string, highest count first.
+     */
+    public List<Source> getTopPaths() {
+        return this.paths.top();
+    }
+
+    /**
+     * @return the number of tracked top segments and paths.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Resets all counts.
+     */
+    public void clear() {
+        this.segments.clear();
+        this.paths.clear();
+    }
+
+    /**
+     * A tracked redirect source.
+     *
+     * @param value the segment or path, truncated to 128 characters.
+     * @param count the estimated number of redirects, an upper bound.
+     */
+    public record Source(String value, long count) {
+
+    }
+}
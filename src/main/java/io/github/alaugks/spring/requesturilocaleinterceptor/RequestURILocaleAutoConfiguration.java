@@ -0,0 +1,142 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import io.micrometer.context.ContextRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.LocaleResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring Boot auto-configuration that registers a
+ * {@link RequestURILocaleInterceptor}, its
+ * {@link RequestURILocaleLinkBuilder} and a {@link RequestURILocaleResolver}
+ * configured by {@link RequestURILocaleProperties}.
+ * <p>Enabled in Servlet web applications once
+ * {@code requesturi-locale.default-locale} is set. Runs before
+ * {@link WebMvcAutoConfiguration}, so the resolver replaces its default
+ * {@code localeResolver}. Own {@code localeResolver} and
+ * {@link RequestURILocaleInterceptor} beans take precedence. A
+ * {@link RequestURILocaleMetrics} bean is picked up if present.
+ * <p>With {@code requesturi-locale.track-redirect-sources} enabled, a
+ * {@link RedirectSourceTracker} is registered and, if Spring Boot Actuator
+ * is present, exposed through the {@link RequestURILocaleEndpoint}.
+ * <p>With {@code requesturi-locale.publish-locale-context} enabled, the
+ * resolved locale is published to {@code LocaleContextHolder} and a
+ * {@link RequestURILocaleTaskDecorator} is registered, which Spring Boot
+ * applies to its task executors, unless an own {@link TaskDecorator} bean
+ * exists. If {@code io.micrometer:context-propagation} is present, a
+ * {@link RequestURILocaleContextAccessor} is registered in the global
+ * {@code ContextRegistry} as well, and removed when the context is closed.
+ * <p>All beans are declared explicitly, so the configuration works with
+ * AOT processing and in native images without classpath scanning;
+ * {@link RequestURILocaleRuntimeHints} registers the hints for property
+ * binding.
+ */
+@AutoConfiguration(before = WebMvcAutoConfiguration.class)
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@ConditionalOnClass(DispatcherServlet.class)
+@ConditionalOnProperty(prefix = RequestURILocaleProperties.PREFIX, name = "default-locale")
+@EnableConfigurationProperties(RequestURILocaleProperties.class)
+@ImportRuntimeHints(RequestURILocaleRuntimeHints.class)
+public class RequestURILocaleAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RequestURILocaleInterceptor requestURILocaleInterceptor(
+        RequestURILocaleProperties properties,
+        ObjectProvider<RequestURILocaleMetrics> metrics,
+        ObjectProvider<RedirectSourceTracker> redirectSourceTracker
+    ) {
+        return properties
+            .toBuilder()
+            .metrics(metrics.getIfUnique())
+            .redirectSourceTracker(redirectSourceTracker.getIfUnique())
+            .build();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = RequestURILocaleProperties.PREFIX, name = "track-redirect-sources")
+    public RedirectSourceTracker redirectSourceTracker() {
+        return new RedirectSourceTracker();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(TaskDecorator.class)
+    @ConditionalOnProperty(prefix = RequestURILocaleProperties.PREFIX, name = "publish-locale-context")
+    public RequestURILocaleTaskDecorator requestURILocaleTaskDecorator() {
+        return new RequestURILocaleTaskDecorator();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RequestURILocaleLinkBuilder requestURILocaleLinkBuilder(RequestURILocaleInterceptor interceptor) {
+        return interceptor.linkBuilder();
+    }
+
+    @Bean(name = DispatcherServlet.LOCALE_RESOLVER_BEAN_NAME)
+    @ConditionalOnMissingBean(name = DispatcherServlet.LOCALE_RESOLVER_BEAN_NAME)
+    public LocaleResolver localeResolver(RequestURILocaleProperties properties) {
+        RequestURILocaleResolver resolver = new RequestURILocaleResolver();
+        resolver.setDefaultLocale(properties.getDefaultLocale());
+        return resolver;
+    }
+
+    @Bean
+    public WebMvcConfigurer requestURILocaleWebMvcConfigurer(RequestURILocaleInterceptor interceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor);
+            }
+        };
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.context.ContextRegistry")
+    @ConditionalOnProperty(prefix = RequestURILocaleProperties.PREFIX, name = "publish-locale-context")
+    static class ContextPropagationConfiguration implements DisposableBean {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public RequestURILocaleContextAccessor requestURILocaleContextAccessor() {
+            RequestURILocaleContextAccessor accessor = new RequestURILocaleContextAccessor();
+            ContextRegistry.getInstance().registerThreadLocalAccessor(accessor);
+            return accessor;
+        }
+
+        @Override
+        public void destroy() {
+            ContextRegistry.getInstance().removeThreadLocalAccessor(RequestURILocaleContextAccessor.KEY);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    @ConditionalOnProperty(prefix = RequestURILocaleProperties.PREFIX, name = "track-redirect-sources")
+    static class EndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public RequestURILocaleEndpoint requestURILocaleEndpoint(RedirectSourceTracker redirectSourceTracker) {
+            return new RequestURILocaleEndpoint(redirectSourceTracker);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import io.micrometer.context.ThreadLocalAccessor;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+/**
+ * Context propagation {@link ThreadLocalAccessor} that carries the
+ * {@link LocaleContextHolder} locale across threads, e.g. into tasks of an
+ * executor wrapped with {@code ContextExecutorService.wrap(...)}, into
+ * virtual threads or into Reactor operators with automatic context
+ * propagation.
+ * <p>Like {@link RequestURILocaleTaskDecorator}, the locale context is
+ * captured as an immutable snapshot, so it is not resolved again on the
+ * other thread. Requires {@code io.micrometer:context-propagation},
+ * which is an optional dependency of this library.
+ * <p>Not registered by default. The auto-configuration registers it in
+ * the global {@code ContextRegistry} if
+ * {@code requesturi-locale.publish-locale-context} is enabled; without
+ * Spring Boot, register it along with
+ * {@link RequestURILocaleInterceptor.Builder#publishLocaleContext(boolean)}:
+ * <pre>{@code
+ * ContextRegistry.getInstance().registerThreadLocalAccessor(new RequestURILocaleContextAccessor());
+ * }</pre>
+ * It takes the place of Spring's {@code LocaleContextThreadLocalAccessor},
+ * which propagates the lazy context of the {@code DispatcherServlet}
+ * instead; do not register both.
+ */
+public class RequestURILocaleContextAccessor implements ThreadLocalAccessor<LocaleContext> {
+
+    /**
+     * Key of the accessor in the {@code ContextRegistry}.
+     */
+    public static final String KEY = RequestURILocaleContextAccessor.class.getName() + ".KEY";
+
+    @Override
+    public Object key() {
+        return KEY;
+    }
+
+    @Override
+    public LocaleContext getValue() {
+        return RequestURILocaleTaskDecorator.snapshot(LocaleContextHolder.getLocaleContext());
+    }
+
+    @Override
+    public void setValue(LocaleContext localeContext) {
+        LocaleContextHolder.setLocaleContext(localeContext);
+    }
+
+    @Override
+    public void setValue() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+}
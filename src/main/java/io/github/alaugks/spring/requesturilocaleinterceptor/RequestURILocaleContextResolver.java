@@ -0,0 +1,95 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import java.util.List;
+import java.util.Locale;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.SimpleLocaleContext;
+import org.springframework.lang.Nullable;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.i18n.LocaleContextResolver;
+
+/**
+ * Spring WebFlux {@link LocaleContextResolver} counterpart of
+ * {@link RequestURILocaleResolver}, which stores the locale chosen by
+ * {@link RequestURILocaleWebFilter} as exchange attribute.
+ * <p>{@link #resolveLocaleContext(ServerWebExchange)} returns, in order, the
+ * locale previously set via
+ * {@link #setLocaleContext(ServerWebExchange, LocaleContext)}, the first
+ * locale of the request's {@code Accept-Language} header, or the configured
+ * {@link #getDefaultLocale() default locale}.
+ */
+public class RequestURILocaleContextResolver implements LocaleContextResolver {
+
+    static final String LOCALE_ATTRIBUTE = RequestURILocaleContextResolver.class.getName() + ".LOCALE";
+    @Nullable
+    private Locale defaultLocale;
+
+    /**
+     * Sets the locale returned if neither a locale was set nor the request
+     * has an {@code Accept-Language} header.
+     *
+     * @param defaultLocale the default locale.
+     */
+    public void setDefaultLocale(@Nullable Locale defaultLocale) {
+        this.defaultLocale = defaultLocale;
+    }
+
+    /**
+     * @return the configured default locale, if any.
+     */
+    @Nullable
+    public Locale getDefaultLocale() {
+        return this.defaultLocale;
+    }
+
+    /**
+     * Resolves the locale context for the given exchange.
+     *
+     * @param exchange the current server exchange.
+     * @return the locale previously set via
+     *         {@link #setLocaleContext(ServerWebExchange, LocaleContext)},
+     *         the request's {@code Accept-Language} locale, or the
+     *         configured default locale.
+     */
+    @Override
+    public LocaleContext resolveLocaleContext(ServerWebExchange exchange) {
+        Locale locale = exchange.getAttribute(LOCALE_ATTRIBUTE);
+        if (locale != null) {
+            return new SimpleLocaleContext(locale);
+        }
+
+        List<Locale> acceptLanguage = this.getAcceptLanguage(exchange);
+        return new SimpleLocaleContext(!acceptLanguage.isEmpty() ? acceptLanguage.get(0) : this.defaultLocale);
+    }
+
+    private List<Locale> getAcceptLanguage(ServerWebExchange exchange) {
+        try {
+            return exchange.getRequest().getHeaders().getAcceptLanguageAsLocales();
+        } catch (IllegalArgumentException e) {
+            // Invalid Accept-Language header: treat as empty.
+            return List.of();
+        }
+    }
+
+    /**
+     * Stores the locale of the given context as exchange attribute so
+     * subsequent calls to {@link #resolveLocaleContext(ServerWebExchange)}
+     * return it.
+     *
+     * @param exchange      the current server exchange.
+     * @param localeContext the locale context to remember, or {@code null}
+     *                      to remove it.
+     */
+    @Override
+    public void setLocaleContext(ServerWebExchange exchange, @Nullable LocaleContext localeContext) {
+        Locale locale = localeContext != null ? localeContext.getLocale() : null;
+        if (locale != null) {
+            exchange.getAttributes().put(LOCALE_ATTRIBUTE, locale);
+        } else {
+            exchange.getAttributes().remove(LOCALE_ATTRIBUTE);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+
+/**
+ * Decides request URIs with the configuration of a
+ * {@link RequestURILocaleInterceptor}, {@link RequestURILocaleFilter} or
+ * {@link RequestURILocaleWebFilter}, obtained via their {@code decider()}
+ * method, without a Servlet or reactive request, e.g. to validate sitemaps,
+ * link inventories or redirect maps offline.
+ * <p>A decision is what the interceptor would answer: the resolved locale,
+ * the redirect location, or the status of the {@link RedirectGuard}. The
+ * {@code Accept-Language} header and the rate limit of the guard are not
+ * taken into account, so redirects target the default locale. Neither the
+ * redirect cache nor metrics or redirect source tracker are touched.
+ * <p>The decider is stateless and thread-safe. The batch variants read the
+ * configuration once and decide the request URIs in parallel on the common
+ * {@link java.util.concurrent.ForkJoinPool}; decisions share no mutable
+ * state, the order of the input is kept.
+ */
+public final class RequestURILocaleDecider {
+
+    private static final char PATH_DELIMITER = '/';
+    private static final char QUERY_DELIMITER = '?';
+    private final RequestURILocaleProcessor processor;
+
+    RequestURILocaleDecider(RequestURILocaleProcessor processor) {
+        this.processor = processor;
+    }
+
+    /**
+     * Decides the given URI.
+     *
+     * @param uri the request URI with optional query string, e.g.
+     *            {@code /it/products?page=2}.
+     * @return the decision.
+     * @throws IllegalArgumentException if the request URI does not start
+     *                                  with {@code /}.
+     */
+    public RequestURILocaleDecision decide(String uri) {
+        return this.decide(this.processor.settings(), null, uri);
+    }
+
+    /**
+     * Decides the given request URI and query string.
+     *
+     * @param requestUri  the raw request URI, e.g. {@code /it/products}.
+     * @param queryString the raw query string, may be {@code null}.
+     * @return the decision.
+     * @throws IllegalArgumentException if the request URI does not start
+     *                                  with {@code /}.
+     */
+    public RequestURILocaleDecision decide(String requestUri, String queryString) {
+        return this.decide(this.processor.settings(), null, requestUri, queryString);
+    }
+
+    /**
+     * Decides the given request URI and query string with the configuration
+     * of the given host.
+     *
+     * @param host        the host name, may be {@code null}.
+     * @param requestUri  the raw request URI, e.g. {@code /it/products}.
+     * @param queryString the raw query string, may be {@code null}.
+     * @return the decision.
+     * @throws IllegalArgumentException if the request URI does not start
+     *                                  with {@code /}.
+     */
+    public RequestURILocaleDecision decide(String host, String requestUri, String queryString) {
+        return this.decide(this.processor.settings(), host, requestUri, queryString);
+    }
+
+    /**
+     * Decides the given URIs in parallel.
+     *
+     * @param uris request URIs with optional query string.
+     * @return the decisions in the order of the given URIs.
+     * @throws IllegalArgumentException if a request URI does not start with
+     *                                  {@code /}.
+     */
+    public List<RequestURILocaleDecision> decideAll(Iterable<String> uris) {
+        Assert.notNull(uris, "URIs are null");
+        return this.decideAll(null, StreamSupport.stream(uris.spliterator(), true)).toList();
+    }
+
+    /**
+     * Decides the given URIs in parallel with the configuration of the given
+     * host.
+     *
+     * @param host the host name, may be {@code null}.
+     * @param uris request URIs with optional query string.
+     * @return the decisions in the order of the given URIs.
+     * @throws IllegalArgumentException if a request URI does not start with
+     *                                  {@code /}.
+     */
+    public List<RequestURILocaleDecision> decideAll(String host, Iterable<String> uris) {
+        Assert.notNull(uris, "URIs are null");
+        return this.decideAll(host, StreamSupport.stream(uris.spliterator(), true)).toList();
+    }
+
+    /**
+     * Returns a parallel stream deciding the given URIs lazily, e.g. to
+     * validate a sitemap without holding all decisions in memory.
+     *
+     * @param uris request URIs with optional query string.
+     * @return the stream of decisions.
+     */
+    public Stream<RequestURILocaleDecision> decideAll(Stream<String> uris) {
+        return this.decideAll(null, uris);
+    }
+
+    /**
+     * Returns a parallel stream deciding the given URIs lazily with the
+     * configuration of the given host.
+     *
+     * @param host the host name, may be {@code null}.
+     * @param uris request URIs with optional query string.
+     * @return the stream of decisions.
+     */
+    public Stream<RequestURILocaleDecision> decideAll(String host, Stream<String> uris) {
+        Assert.notNull(uris, "URIs are null");
+        // One snapshot for the whole batch, even if reloaded meanwhile.
+        LocaleSettings settings = this.processor.settings();
+        return uris.parallel().map(uri -> this.decide(settings, host, uri));
+    }
+
+    private RequestURILocaleDecision decide(LocaleSettings settings, String host, String uri) {
+        Assert.notNull(uri, "RequestURI is null");
+        int queryStart = uri.indexOf(QUERY_DELIMITER);
+        return queryStart == -1
+            ? this.decide(settings, host, uri, null)
+            : this.decide(settings, host, uri.substring(0, queryStart), uri.substring(queryStart + 1));
+    }
+
+    private RequestURILocaleDecision decide(
+        LocaleSettings settings,
+        String host,
+        String requestUri,
+        String queryString
+    ) {
+        Assert.notNull(requestUri, "RequestURI is null");
+        Assert.isTrue(
+            !requestUri.isEmpty() && requestUri.charAt(0) == PATH_DELIMITER,
+            () -> "RequestURI must start with /: " + requestUri
+        );
+
+        int localeEnd = this.processor.localeEnd(requestUri);
+        if (settings.excludedPaths.matches(requestUri)) {
+            return RequestURILocaleDecision.excluded(requestUri, queryString);
+        }
+
+        settings = settings.forHost(host);
+
+        Locale locale = settings.resolve(requestUri, localeEnd);
+        if (locale != null) {
+            return RequestURILocaleDecision.localized(requestUri, queryString, locale);
+        }
+
+        HttpStatus rejected = this.processor.guard(settings, requestUri, localeEnd);
+        if (rejected != null) {
+            return RequestURILocaleDecision.rejected(requestUri, queryString, rejected);
+        }
+
+        RedirectLocation redirectLocation = settings.redirectLocation(requestUri, localeEnd, null);
+        return RequestURILocaleDecision.redirect(
+            requestUri,
+            queryString,
+            redirectLocation.build(requestUri, localeEnd, queryString),
+            redirectLocation.reason(localeEnd),
+            this.processor.redirectStatus()
+        );
+    }
+}
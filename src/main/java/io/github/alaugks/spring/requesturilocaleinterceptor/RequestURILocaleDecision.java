@@ -0,0 +1,110 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import io.github.alaugks.spring.requesturilocaleinterceptor.RequestURILocaleMetrics.RedirectReason;
+import java.util.Locale;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Decision of a {@link RequestURILocaleDecider} for one request URI, i.e.
+ * what {@link RequestURILocaleInterceptor} would do with the request.
+ *
+ * @param requestUri     the decided request URI.
+ * @param queryString    the decided query string, may be {@code null}.
+ * @param outcome        what the interceptor would do.
+ * @param locale         the resolved locale if {@link Outcome#LOCALIZED},
+ *                       otherwise {@code null}.
+ * @param location       path and query of the redirect target if
+ *                       {@link Outcome#REDIRECT}, otherwise {@code null}.
+ * @param redirectReason why the request is redirected if
+ *                       {@link Outcome#REDIRECT}, otherwise {@code null}.
+ * @param status         the redirect status if {@link Outcome#REDIRECT},
+ *                       the status answered by the {@link RedirectGuard}
+ *                       if {@link Outcome#REJECTED}, otherwise
+ *                       {@code null}.
+ */
+public record RequestURILocaleDecision(
+    String requestUri,
+    String queryString,
+    Outcome outcome,
+    Locale locale,
+    String location,
+    RedirectReason redirectReason,
+    HttpStatus status
+) {
+
+    /**
+     * What the interceptor would do with a request.
+     */
+    public enum Outcome {
+        /**
+         * The first path segment is a supported locale in its canonical
+         * spelling, the request passes with that locale.
+         */
+        LOCALIZED,
+        /**
+         * The request URI is an excluded path and passes untouched.
+         */
+        EXCLUDED,
+        /**
+         * The request is redirected to {@link #location()}.
+         */
+        REDIRECT,
+        /**
+         * The {@link RedirectGuard} answers the request with
+         * {@link #status()} instead of redirecting it.
+         */
+        REJECTED
+    }
+
+    static RequestURILocaleDecision localized(String requestUri, String queryString, Locale locale) {
+        return new RequestURILocaleDecision(requestUri, queryString, Outcome.LOCALIZED, locale, null, null, null);
+    }
+
+    static RequestURILocaleDecision excluded(String requestUri, String queryString) {
+        return new RequestURILocaleDecision(requestUri, queryString, Outcome.EXCLUDED, null, null, null, null);
+    }
+
+    static RequestURILocaleDecision redirect(
+        String requestUri,
+        String queryString,
+        String location,
+        RedirectReason redirectReason,
+        HttpStatus status
+    ) {
+        return new RequestURILocaleDecision(
+            requestUri,
+            queryString,
+            Outcome.REDIRECT,
+            null,
+            location,
+            redirectReason,
+            status
+        );
+    }
+
+    static RequestURILocaleDecision rejected(String requestUri, String queryString, HttpStatus status) {
+        return new RequestURILocaleDecision(requestUri, queryString, Outcome.REJECTED, null, null, null, status);
+    }
+
+    /**
+     * Returns the canonical form of the request, i.e. the URI it is finally
+     * served under.
+     *
+     * @return the request URI plus query string if
+     *         {@link Outcome#LOCALIZED} or {@link Outcome#EXCLUDED}, the
+     *         redirect location if {@link Outcome#REDIRECT}, {@code null} if
+     *         {@link Outcome#REJECTED}.
+     */
+    public String canonicalUri() {
+        return switch (this.outcome) {
+            case LOCALIZED, EXCLUDED -> this.queryString == null || this.queryString.isEmpty()
+                ? this.requestUri
+                : this.requestUri + '?' + this.queryString;
+            case REDIRECT -> this.location;
+            case REJECTED -> null;
+        };
+    }
+}
@@ -0,0 +1,64 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import io.github.alaugks.spring.requesturilocaleinterceptor.RedirectSourceTracker.Source;
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Spring Boot Actuator endpoint {@code requesturilocale} that exposes the
+ * most frequent redirect sources tracked by a {@link RedirectSourceTracker}.
+ * <p>Registered by {@link RequestURILocaleAutoConfiguration} if
+ * {@code requesturi-locale.track-redirect-sources} is enabled and Spring
+ * Boot Actuator is on the classpath. Like every endpoint, it has to be
+ * exposed, e.g. with
+ * {@code management.endpoints.web.exposure.include=requesturilocale}.
+ */
+@Endpoint(id = "requesturilocale")
+public class RequestURILocaleEndpoint {
+
+    private final RedirectSourceTracker redirectSourceTracker;
+
+    /**
+     * Creates a new endpoint.
+     *
+     * @param redirectSourceTracker the tracker to expose.
+     */
+    public RequestURILocaleEndpoint(RedirectSourceTracker redirectSourceTracker) {
+        this.redirectSourceTracker = redirectSourceTracker;
+    }
+
+    /**
+     * @return the most frequent unmatched first path segments and
+     *         redirected request paths.
+     */
+    @ReadOperation
+    public RedirectSources redirectSources() {
+        return new RedirectSources(
+            this.redirectSourceTracker.getTopSegments(),
+            this.redirectSourceTracker.getTopPaths()
+        );
+    }
+
+    /**
+     * Resets all tracked counts.
+     */
+    @DeleteOperation
+    public void clear() {
+        this.redirectSourceTracker.clear();
+    }
+
+    /**
+     * Response of the endpoint.
+     *
+     * @param segments the most frequent unmatched first path segments.
+     * @param paths    the most frequent redirected request paths.
+     */
+    public record RedirectSources(List<Source> segments, List<Source> paths) {
+
+    }
+}
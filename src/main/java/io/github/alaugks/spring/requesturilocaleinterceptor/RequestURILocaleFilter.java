@@ -0,0 +1,259 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.LocaleResolver;
+
+/**
+ * Servlet {@link jakarta.servlet.Filter Filter} counterpart of
+ * {@link RequestURILocaleInterceptor}, which makes the locale decision
+ * before the {@link org.springframework.web.servlet.DispatcherServlet
+ * DispatcherServlet} runs.
+ * <p>Requests that are redirected never reach the handler mapping. Matched
+ * requests are passed on with the locale already set on the given
+ * {@link LocaleResolver}, which should be the application's
+ * {@code localeResolver} bean, e.g. a {@link RequestURILocaleResolver}.
+ * <p>If the application is deployed under a context path, the locale is
+ * the first path segment after it, e.g. {@code /app/de/products}, and
+ * redirects keep the context path. Excluded paths are matched without the
+ * context path.
+ */
+public class RequestURILocaleFilter extends OncePerRequestFilter {
+
+    private static final char PATH_DELIMITER = '/';
+
+    private final RequestURILocaleProcessor processor;
+    private final RequestURILocaleLinkBuilder linkBuilder;
+    private final RequestURILocaleDecider decider;
+    private final LocaleResolver localeResolver;
+    private final Set<DispatcherType> dispatcherTypes;
+
+    /**
+     * Creates a new filter from the values configured on the given
+     * {@link RequestURILocaleInterceptor.Builder}.
+     *
+     * @param builder        builder carrying the configuration.
+     * @param localeResolver the resolver to set the matched locale on.
+     * @throws IllegalArgumentException if the default locale is
+     *                                  {@code null} or empty, the locale
+     *                                  resolver is {@code null}, or the
+     *                                  locale context is published and the
+     *                                  locale resolver is no
+     *                                  {@link RequestURILocaleResolver}.
+     */
+    public RequestURILocaleFilter(RequestURILocaleInterceptor.Builder builder, LocaleResolver localeResolver) {
+        Assert.notNull(localeResolver, "LocaleResolver is null");
+        Assert.isTrue(
+            !builder.publishLocaleContext || localeResolver instanceof RequestURILocaleResolver,
+            "Publishing the locale context requires a RequestURILocaleResolver"
+        );
+        this.processor = new RequestURILocaleProcessor(builder);
+        this.linkBuilder = new RequestURILocaleLinkBuilder(this.processor);
+        this.decider = new RequestURILocaleDecider(this.processor);
+        this.localeResolver = localeResolver;
+        this.dispatcherTypes = builder.dispatcherTypes;
+    }
+
+    /**
+     * Atomically replaces the locale configuration (default locale,
+     * supported locales, default RequestURI and host configurations) with
+     * the one configured on the given builder, e.g. to roll out a new
+     * market without a redeploy.
+     * <p>The configuration is compiled before it is swapped in. Requests
+     * in flight finish with the previous configuration, later requests see
+     * the new one. Redirect cache and metrics configured at construction
+     * are kept, the redirect cache is cleared.
+     *
+     * @param builder builder carrying the new locale configuration.
+     * @throws IllegalArgumentException if the default locale is
+     *                                  {@code null} or empty; the current
+     *                                  configuration is kept in that case.
+     */
+    public void reload(RequestURILocaleInterceptor.Builder builder) {
+        this.processor.reload(builder);
+    }
+
+    /**
+     * Returns a {@link RequestURILocaleLinkBuilder} that builds
+     * locale-prefixed links with the configuration of this filter. The
+     * builder follows {@link #reload(RequestURILocaleInterceptor.Builder)
+     * reloads}.
+     *
+     * @return the link builder.
+     */
+    public RequestURILocaleLinkBuilder linkBuilder() {
+        return this.linkBuilder;
+    }
+
+    /**
+     * Returns a {@link RequestURILocaleDecider} that decides request URIs
+     * with the configuration of this filter without a request, e.g. to
+     * validate sitemaps. The decider follows
+     * {@link #reload(RequestURILocaleInterceptor.Builder) reloads}.
+     *
+     * @return the decider.
+     */
+    public RequestURILocaleDecider decider() {
+        return this.decider;
+    }
+
+    /**
+     * @return {@code false} if {@link DispatcherType#ASYNC} is listed in
+     *         {@link RequestURILocaleInterceptor.Builder#dispatcherTypes(DispatcherType...)}.
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return !this.dispatcherTypes.contains(DispatcherType.ASYNC);
+    }
+
+    /**
+     * @return {@code false} if {@link DispatcherType#ERROR} is listed in
+     *         {@link RequestURILocaleInterceptor.Builder#dispatcherTypes(DispatcherType...)}.
+     */
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return !this.dispatcherTypes.contains(DispatcherType.ERROR);
+    }
+
+    /**
+     * Inspects the first path segment of the request URI. If it matches one
+     * of the configured supported locales, the locale is set on the
+     * {@link LocaleResolver} and the filter chain continues. Otherwise the
+     * response is redirected and the filter chain is not invoked. Dispatches
+     * not listed in
+     * {@link RequestURILocaleInterceptor.Builder#dispatcherTypes(DispatcherType...)}
+     * continue the filter chain untouched.
+     *
+     * @param request     the current HTTP request.
+     * @param response    the current HTTP response.
+     * @param filterChain the remaining filter chain.
+     * @throws RequestURILocaleInterceptorException if an error occurs while
+     *         resolving the locale or sending the redirect.
+     */
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!this.dispatcherTypes.contains(request.getDispatcherType())) {
+            // Re-dispatch, the locale of the initial dispatch is kept.
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        LocaleContext previousLocaleContext = LocaleContextHolder.getLocaleContext();
+        try {
+            HttpServletRequest filteredRequest = this.handle(request, response);
+            if (filteredRequest != null) {
+                filterChain.doFilter(filteredRequest, response);
+            }
+        } finally {
+            if (this.processor.publishLocaleContext) {
+                LocaleContextHolder.setLocaleContext(previousLocaleContext);
+            }
+        }
+    }
+
+    private HttpServletRequest handle(HttpServletRequest request, HttpServletResponse response) {
+        RequestURILocaleMetrics metrics = this.processor.metrics();
+        long start = metrics != null ? System.nanoTime() : 0L;
+        try {
+            String contextPath = request.getContextPath();
+            String requestUri = pathWithinApplication(request.getRequestURI(), contextPath);
+            int localeEnd = this.processor.localeEnd(requestUri);
+            LocaleSettings settings = this.processor.settings();
+            if (settings.excludedPaths.matches(requestUri)) {
+                return request;
+            }
+
+            settings = settings.forHost(request.getServerName());
+
+            Locale locale = this.processor.resolve(settings, requestUri, localeEnd);
+            if (locale != null) {
+                this.localeResolver.setLocale(request, response, locale);
+                LocaleContext localeContext = this.processor.publish(locale);
+                if (localeContext != null) {
+                    // The DispatcherServlet replaces the context with the one
+                    // of its resolver, RequestURILocaleResolver hands it on.
+                    request.setAttribute(RequestURILocaleResolver.LOCALE_CONTEXT_ATTRIBUTE, localeContext);
+                }
+                if (settings.alternateLinks != null) {
+                    response.addHeader(HttpHeaders.LINK, settings.alternateLinks.header(requestUri, localeEnd));
+                }
+                if (!this.processor.stripLocale) {
+                    return request;
+                }
+
+                String path = this.processor.path(requestUri, localeEnd);
+                request.setAttribute(RequestURILocaleInterceptor.LOCALE_ATTRIBUTE, locale);
+                request.setAttribute(RequestURILocaleInterceptor.PATH_ATTRIBUTE, path);
+                return new LocaleFreePathRequest(request, path, localeEnd);
+            }
+
+            HttpStatus rejected = this.processor.guard(settings, requestUri, localeEnd, request);
+            if (rejected != null) {
+                response.setStatus(rejected.value());
+                return null;
+            }
+
+            String location = this.processor.redirect(
+                settings,
+                requestUri,
+                localeEnd,
+                request.getQueryString(),
+                settings.isAcceptLanguageRedirect() ? request.getHeader(HttpHeaders.ACCEPT_LANGUAGE) : null
+            );
+            RedirectPolicy redirectPolicy = this.processor.redirectPolicy;
+            if (redirectPolicy == null) {
+                // Send redirect only with path + query.
+                // No domain handling domain/ip vs. proxies and forwarded.
+                response.sendRedirect(contextPath + location);
+            } else {
+                redirectPolicy.sendRedirect(request, response, contextPath + location, settings.vary);
+            }
+
+            return null;
+
+        } catch (Exception e) {
+            throw new RequestURILocaleInterceptorException(e);
+        } finally {
+            if (metrics != null) {
+                metrics.preHandleCompleted(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Returns the request URI without the context path, in which the locale
+     * segment is the first path segment, e.g. {@code /de/products} of
+     * {@code /app/de/products}.
+     *
+     * @param requestUri  the raw request URI.
+     * @param contextPath the context path, empty for the root context.
+     * @return the request URI within the application.
+     */
+    static String pathWithinApplication(String requestUri, String contextPath) {
+        if (contextPath.isEmpty()) {
+            return requestUri;
+        }
+        return requestUri.length() > contextPath.length()
+            ? requestUri.substring(contextPath.length())
+            : String.valueOf(PATH_DELIMITER);
+    }
+}
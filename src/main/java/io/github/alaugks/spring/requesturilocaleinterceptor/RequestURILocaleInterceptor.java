@@ -3,14 +3,20 @@
 
 package io.github.alaugks.spring.requesturilocaleinterceptor;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.net.URI;
-import java.net.URL;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.util.Assert;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.LocaleResolver;
@@ -32,10 +38,25 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 public class RequestURILocaleInterceptor implements HandlerInterceptor {
 
-    private static final String PATH_DELIMITER = "/";
-    private final Locale defaultLocale;
-    private final List<Locale> supportedLocales;
-    private String defaultHomePath;
+    /**
+     * Request (or exchange) attribute holding the resolved {@link Locale}
+     * if {@link Builder#stripLocale(boolean)} is enabled. A constant
+     * expression, so it can be used in {@code @RequestAttribute}.
+     */
+    public static final String LOCALE_ATTRIBUTE =
+        "io.github.alaugks.spring.requesturilocaleinterceptor.RequestURILocaleInterceptor.LOCALE";
+
+    /**
+     * Request (or exchange) attribute holding the request URI without the
+     * locale segment, e.g. {@code /products} for {@code /de/products}, if
+     * {@link Builder#stripLocale(boolean)} is enabled.
+     */
+    public static final String PATH_ATTRIBUTE =
+        "io.github.alaugks.spring.requesturilocaleinterceptor.RequestURILocaleInterceptor.PATH";
+    private final RequestURILocaleProcessor processor;
+    private final RequestURILocaleLinkBuilder linkBuilder;
+    private final RequestURILocaleDecider decider;
+    private final Set<DispatcherType> dispatcherTypes;
 
     /**
      * Creates a new interceptor from the values configured on the given
@@ -44,9 +65,10 @@ public class RequestURILocaleInterceptor implements HandlerInterceptor {
      * @param builder builder carrying the resolved configuration.
      */
     public RequestURILocaleInterceptor(Builder builder) {
-        this.defaultLocale = builder.defaultLocale;
-        this.supportedLocales = builder.supportedLocales;
-        this.defaultHomePath = builder.defaultRequestURI;
+        this.processor = new RequestURILocaleProcessor(builder);
+        this.linkBuilder = new RequestURILocaleLinkBuilder(this.processor);
+        this.decider = new RequestURILocaleDecider(this.processor);
+        this.dispatcherTypes = builder.dispatcherTypes;
     }
 
     /**
@@ -62,15 +84,73 @@ public class RequestURILocaleInterceptor implements HandlerInterceptor {
         return new Builder(defaultLocale);
     }
 
+    /**
+     * Atomically replaces the locale configuration (default locale,
+     * supported locales, default RequestURI and host configurations) with
+     * the one configured on the given builder, e.g. to roll out a new
+     * market without a redeploy.
+     * <p>The configuration is compiled before it is swapped in. Requests
+     * in flight finish with the previous configuration, later requests see
+     * the new one. Redirect cache and metrics configured at construction
+     * are kept, the redirect cache is cleared.
+     *
+     * @param builder builder carrying the new locale configuration.
+     * @throws IllegalArgumentException if the default locale is
+     *                                  {@code null} or empty; the current
+     *                                  configuration is kept in that case.
+     */
+    public void reload(Builder builder) {
+        this.processor.reload(builder);
+    }
+
+    /**
+     * Returns a {@link RequestURILocaleLinkBuilder} that builds
+     * locale-prefixed links with the configuration of this interceptor. The
+     * builder follows {@link #reload(Builder) reloads}.
+     *
+     * @return the link builder.
+     */
+    public RequestURILocaleLinkBuilder linkBuilder() {
+        return this.linkBuilder;
+    }
+
+    /**
+     * Returns a {@link RequestURILocaleDecider} that decides request URIs
+     * with the configuration of this interceptor without a request, e.g. to
+     * validate sitemaps. The decider follows {@link #reload(Builder) reloads}.
+     *
+     * @return the decider.
+     */
+    public RequestURILocaleDecider decider() {
+        return this.decider;
+    }
+
     /**
      * Fluent builder for configuring and assembling a
      * {@link RequestURILocaleInterceptor}.
      */
     public static final class Builder {
 
-        private final Locale defaultLocale;
-        private List<Locale> supportedLocales;
-        private String defaultRequestURI;
+        final Locale defaultLocale;
+        List<Locale> supportedLocales;
+        String defaultRequestURI;
+        List<String> excludePaths;
+        RedirectCache redirectCache;
+        RedirectPolicy redirectPolicy;
+        RedirectGuard redirectGuard;
+        RequestURILocaleMetrics metrics;
+        RedirectSourceTracker redirectSourceTracker;
+        boolean acceptLanguageRedirect;
+        boolean stripLocale;
+        boolean publishLocaleContext;
+        Set<DispatcherType> dispatcherTypes = EnumSet.of(DispatcherType.REQUEST);
+        boolean regionalFallback;
+        boolean canonicalRedirect;
+        boolean alternateLinks;
+        int alternateLinksCacheSize;
+        String alternateLinksOrigin;
+        final Map<Locale, Locale> fallbacks = new LinkedHashMap<>();
+        final Map<String, Builder> hosts = new LinkedHashMap<>();
 
         /**
          * Creates a new builder with the given default locale.
@@ -113,21 +193,332 @@ public class RequestURILocaleInterceptor implements HandlerInterceptor {
             return this;
         }
 
+        /**
+         * Lists paths that bypass locale handling, e.g. {@code /static/**},
+         * {@code /actuator/**} or {@code /.well-known/**}. Requests to these
+         * paths continue unchanged: no locale is set and no redirect is
+         * sent. Applies to all host configurations.
+         * <p>A path must start with {@code /} and may end with {@code /**};
+         * {@code /api} and {@code /api/**} both exclude {@code /api} and
+         * everything below it, but not {@code /apidocs}. All paths are
+         * compiled into a single trie at {@link #build()}, so a request URI
+         * is checked in one pass regardless of the number of paths.
+         *
+         * @param excludePaths the excluded paths.
+         * @return this builder for chaining.
+         */
+        public Builder excludePaths(List<String> excludePaths) {
+            this.excludePaths = excludePaths;
+            return this;
+        }
+
+        /**
+         * Defines a separate locale configuration for requests to the given
+         * host, e.g. {@code shop.ch} with {@code de}, {@code fr} and
+         * {@code it}. The host is matched case-insensitively against
+         * {@link jakarta.servlet.ServletRequest#getServerName()}. Requests
+         * to hosts without own configuration use the configuration of this
+         * builder.
+         * <p>Only default locale, supported locales and default RequestURI
+         * are taken from the host builder. All hosts are compiled into an
+         * immutable table at {@link #build()}, so the configuration of a
+         * request is found with a single hash lookup.
+         *
+         * @param host    the host name.
+         * @param builder builder carrying the locale configuration of the
+         *                host.
+         * @return this builder for chaining.
+         */
+        public Builder host(String host, Builder builder) {
+            Assert.hasText(host, "Host is empty");
+            Assert.notNull(builder, "Builder of host " + host + " is null");
+            Assert.isTrue(builder != this && builder.hosts.isEmpty(), "Builder of host " + host + " defines hosts");
+            this.hosts.put(host.toLowerCase(Locale.ROOT), builder);
+            return this;
+        }
+
+        /**
+         * Adds a {@code Link} header with the alternate URL of every
+         * supported locale and the default locale as {@code x-default} to
+         * each request with a supported locale, e.g.
+         * {@code </de/products>; rel="alternate"; hreflang="de"}. The
+         * alternate URLs keep the path, but not the query string. Applies to
+         * all host configurations. Disabled by default.
+         * <p>The header fragments of every locale are compiled at
+         * {@link #build()}, so a request only adds its path.
+         *
+         * @param alternateLinks {@code true} to add the {@code Link} header.
+         * @return this builder for chaining.
+         * @see #alternateLinksOrigin(String)
+         * @see #alternateLinksCache(int)
+         */
+        public Builder alternateLinks(boolean alternateLinks) {
+            this.alternateLinks = alternateLinks;
+            return this;
+        }
+
+        /**
+         * Caches the {@code Link} header values of the most recently
+         * requested URIs. Applies to all host configurations.
+         *
+         * @param maximumSize the maximum number of cached header values
+         *                    per host configuration.
+         * @return this builder for chaining.
+         * @throws IllegalArgumentException if the maximum size is not
+         *                                  positive.
+         */
+        public Builder alternateLinksCache(int maximumSize) {
+            Assert.isTrue(maximumSize > 0, "Maximum size must be greater than 0");
+            this.alternateLinksCacheSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Defines scheme and host of the alternate URLs, e.g.
+         * {@code https://example.com}. Each host configuration defines its
+         * own origin. If not set, the alternate URLs are relative.
+         *
+         * @param origin scheme, host and optional port.
+         * @return this builder for chaining.
+         * @throws IllegalArgumentException if the origin is empty.
+         */
+        public Builder alternateLinksOrigin(String origin) {
+            Assert.hasText(origin, "Origin is empty");
+            this.alternateLinksOrigin = origin.endsWith("/") ? origin.substring(0, origin.length() - 1) : origin;
+            return this;
+        }
+
+        /**
+         * Redirects every other accepted spelling of a supported locale to
+         * its canonical spelling, the lower case language tag, keeping the
+         * rest of the path, e.g. {@code /EN/products},
+         * {@code /en_US/products} or {@code /iw/products} to
+         * {@code /en/products}, {@code /en-us/products} or
+         * {@code /he/products}. Applies to all host configurations.
+         * Disabled by default, in which case the locale segment is matched
+         * case-insensitively.
+         * <p>All accepted spellings are compiled into a lookup table at
+         * {@link #build()}.
+         *
+         * @param canonicalRedirect {@code true} to redirect non-canonical
+         *                          spellings.
+         * @return this builder for chaining.
+         */
+        public Builder canonicalRedirect(boolean canonicalRedirect) {
+            this.canonicalRedirect = canonicalRedirect;
+            return this;
+        }
+
+        /**
+         * Redirects an unsupported regional locale to its nearest
+         * supported locale instead of the default locale, keeping the rest
+         * of the path, e.g. {@code /de-at/products} to
+         * {@code /de/products} or {@code /zh-hant-tw/} to
+         * {@code /zh-hant/}. Applies to all host configurations. Disabled
+         * by default.
+         * <p>The fallback of every known tag is computed at
+         * {@link #build()}, so a request resolves it with a single lookup.
+         *
+         * @param regionalFallback {@code true} to fall back by dropping
+         *                         subtags.
+         * @return this builder for chaining.
+         */
+        public Builder regionalFallback(boolean regionalFallback) {
+            this.regionalFallback = regionalFallback;
+            return this;
+        }
+
+        /**
+         * Defines an explicit fallback, e.g. {@code gsw} to {@code de-CH}.
+         * Explicit fallbacks are applied before
+         * {@link #regionalFallback(boolean) regional fallback}; if the
+         * fallback locale is not supported itself, its fallback is used.
+         * Applies to all host configurations.
+         *
+         * @param locale         the unsupported locale.
+         * @param fallbackLocale the locale to fall back to.
+         * @return this builder for chaining.
+         */
+        public Builder fallback(Locale locale, Locale fallbackLocale) {
+            Assert.notNull(locale, "Locale is null");
+            Assert.notNull(fallbackLocale, "Fallback locale of " + locale + " is null");
+            this.fallbacks.put(locale, fallbackLocale);
+            return this;
+        }
+
+        /**
+         * Redirects to the supported locale that best matches the
+         * {@code Accept-Language} header instead of the default locale, so
+         * a German visitor of {@code /products} lands on
+         * {@code /de/products}. If no supported locale matches, the default
+         * locale is used. Applies to all host configurations. Disabled by
+         * default.
+         * <p>Negotiation results are kept in a bounded, concurrent cache
+         * keyed on the raw header value.
+         *
+         * @param acceptLanguageRedirect {@code true} to negotiate the
+         *                               redirect target.
+         * @return this builder for chaining.
+         */
+        public Builder acceptLanguageRedirect(boolean acceptLanguageRedirect) {
+            this.acceptLanguageRedirect = acceptLanguageRedirect;
+            return this;
+        }
+
+        /**
+         * Exposes the resolved locale and the request URI without the
+         * locale segment as request attributes {@link #LOCALE_ATTRIBUTE}
+         * and {@link #PATH_ATTRIBUTE}, so downstream code does not parse
+         * the locale segment again. Disabled by default.
+         * <p>{@link RequestURILocaleFilter} additionally passes the request
+         * on with the locale-free request URI and {@link
+         * RequestURILocaleWebFilter} with the locale-free request path, so
+         * controllers are mapped without a {@code {locale}} variable, e.g.
+         * {@code /products} instead of {@code /{locale}/products}. The
+         * interceptor runs after the handler mapping and only sets the
+         * attributes. Fixed at construction, not changed by a reload.
+         *
+         * @param stripLocale {@code true} to expose the locale-free path.
+         * @return this builder for chaining.
+         */
+        public Builder stripLocale(boolean stripLocale) {
+            this.stripLocale = stripLocale;
+            return this;
+        }
+
+        /**
+         * Publishes the resolved locale once to
+         * {@link org.springframework.context.i18n.LocaleContextHolder
+         * LocaleContextHolder} as an immutable context, so
+         * {@code LocaleContextHolder.getLocale()} no longer asks the
+         * {@link LocaleResolver} on every call and
+         * {@link RequestURILocaleTaskDecorator} or
+         * {@link RequestURILocaleContextAccessor} carry it into other
+         * threads as is. Disabled by default.
+         * <p>The {@code DispatcherServlet} restores its own context after the
+         * request; {@link RequestURILocaleFilter} restores the previous
+         * context after the filter chain. As the {@code DispatcherServlet}
+         * replaces the context with the one of its {@code localeResolver},
+         * the filter requires a {@link RequestURILocaleResolver}, which
+         * hands the published context on. Not supported by
+         * {@link RequestURILocaleWebFilter}, reactive applications read the
+         * locale from the exchange. Fixed at construction, not changed by a
+         * reload.
+         *
+         * @param publishLocaleContext {@code true} to publish the locale.
+         * @return this builder for chaining.
+         */
+        public Builder publishLocaleContext(boolean publishLocaleContext) {
+            this.publishLocaleContext = publishLocaleContext;
+            return this;
+        }
+
+        /**
+         * Defines the dispatcher types whose request URI is resolved and
+         * redirected. Defaults to {@link DispatcherType#REQUEST} only.
+         * <p>Other dispatches, e.g. an {@link DispatcherType#ERROR ERROR}
+         * dispatch to {@code /error}, an {@link DispatcherType#ASYNC ASYNC}
+         * dispatch of a {@code DeferredResult} or a
+         * {@link DispatcherType#FORWARD FORWARD}, pass without parsing and
+         * without redirect. They keep the locale stored on the request by
+         * {@link RequestURILocaleResolver} and the attributes of
+         * {@link #stripLocale(boolean)} during the initial dispatch. Fixed
+         * at construction, not changed by a reload.
+         *
+         * @param dispatcherTypes the dispatcher types to process.
+         * @return this builder for chaining.
+         * @throws IllegalArgumentException if no dispatcher type is given.
+         */
+        public Builder dispatcherTypes(DispatcherType... dispatcherTypes) {
+            Assert.notEmpty(dispatcherTypes, "Dispatcher types are empty");
+            Assert.noNullElements(dispatcherTypes, "Dispatcher types contain null");
+            this.dispatcherTypes = EnumSet.copyOf(Arrays.asList(dispatcherTypes));
+            return this;
+        }
+
+        /**
+         * Caches computed redirect locations, keyed on request URI, query
+         * string and, with {@link #acceptLanguageRedirect(boolean)}, the
+         * {@code Accept-Language} header, so repeated redirects of the same
+         * request are answered with a single lookup instead of the locale
+         * lookups. Not set by default.
+         * <p>The cache must not be shared with another interceptor.
+         *
+         * @param redirectCache the cache for redirect locations.
+         * @return this builder for chaining.
+         */
+        public Builder redirectCache(RedirectCache redirectCache) {
+            this.redirectCache = redirectCache;
+            return this;
+        }
+
+        /**
+         * Defines status code, caching headers and {@code Location} form of
+         * redirects, e.g. a cacheable {@code 301} for CDNs. A {@code Vary}
+         * header is added if the redirect target depends on the
+         * {@code Accept-Language} header or the host. Not set by default:
+         * redirects are sent as uncacheable {@code 302} with
+         * {@link HttpServletResponse#sendRedirect(String)}.
+         *
+         * @param redirectPolicy the redirect policy.
+         * @return this builder for chaining.
+         */
+        public Builder redirectPolicy(RedirectPolicy redirectPolicy) {
+            this.redirectPolicy = redirectPolicy;
+            return this;
+        }
+
+        /**
+         * Answers requests that would be redirected with a bare status code
+         * if a redirect cannot help, e.g. over-long or loop-prone
+         * RequestURIs, or clients exceeding their redirect rate. Not set by
+         * default.
+         *
+         * @param redirectGuard the redirect guard.
+         * @return this builder for chaining.
+         */
+        public Builder redirectGuard(RedirectGuard redirectGuard) {
+            this.redirectGuard = redirectGuard;
+            return this;
+        }
+
+        /**
+         * Tracks the most frequent unmatched first path segments and
+         * redirected request paths in fixed memory, e.g. to find a broken
+         * campaign link or a scanner behind a spike of redirects. Not set
+         * by default.
+         *
+         * @param redirectSourceTracker the tracker, must not be shared
+         *                              between interceptors.
+         * @return this builder for chaining.
+         */
+        public Builder redirectSourceTracker(RedirectSourceTracker redirectSourceTracker) {
+            this.redirectSourceTracker = redirectSourceTracker;
+            return this;
+        }
+
+        /**
+         * Reports resolved locales, redirects and the duration of
+         * {@code preHandle}, e.g. to Micrometer with
+         * {@link MicrometerRequestURILocaleMetrics}. Not set by default.
+         *
+         * @param metrics the metrics to report to.
+         * @return this builder for chaining.
+         */
+        public Builder metrics(RequestURILocaleMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
         /**
          * Assembles the configured {@link RequestURILocaleInterceptor}.
          *
          * @return the configured interceptor.
          * @throws IllegalArgumentException if the default locale is
-         *                                  {@code null} or empty.
+         *                                  {@code null} or empty, or an
+         *                                  excluded path is invalid.
          */
         public RequestURILocaleInterceptor build() {
-            Assert.notNull(defaultLocale, "Default locale is null");
-            Assert.isTrue(!defaultLocale.toString().trim().isEmpty(), "Default locale is empty");
-
-            if (this.supportedLocales == null) {
-                this.supportedLocales = new ArrayList<>();
-            }
-
             return new RequestURILocaleInterceptor(this);
         }
     }
@@ -138,7 +529,8 @@ public class RequestURILocaleInterceptor implements HandlerInterceptor {
      * the {@link LocaleResolver} and the request is allowed to proceed.
      * Otherwise the response is redirected to the same path prefixed with
      * the default locale (or to the configured default RequestURI when no
-     * path remains).
+     * path remains). Dispatches not listed in
+     * {@link Builder#dispatcherTypes(DispatcherType...)} proceed untouched.
      *
      * @param request  the current HTTP request.
      * @param response the current HTTP response.
@@ -151,46 +543,80 @@ public class RequestURILocaleInterceptor implements HandlerInterceptor {
      */
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!this.dispatcherTypes.contains(request.getDispatcherType())) {
+            // Re-dispatch, the locale of the initial dispatch is kept.
+            return true;
+        }
+
+        RequestURILocaleMetrics metrics = this.processor.metrics();
+        if (metrics == null) {
+            return this.handle(request, response);
+        }
+
+        long start = System.nanoTime();
+        try {
+            return this.handle(request, response);
+        } finally {
+            metrics.preHandleCompleted(System.nanoTime() - start);
+        }
+    }
+
+    private boolean handle(HttpServletRequest request, HttpServletResponse response) {
         try {
             LocaleResolver localeResolver = RequestContextUtils.getLocaleResolver(request);
             if (localeResolver == null) {
                 throw new IllegalStateException("LocaleResolver not found");
             }
 
-            if (this.defaultHomePath == null) {
-                this.defaultHomePath = PATH_DELIMITER + this.formatLocale(this.defaultLocale);
-            }
-
-            // Remove Leading Slash
-            String requestUri = request.getRequestURI().substring(1);
-
-            // Remove Trailing Slash
-            String trailingSlash = "";
-            if (requestUri.endsWith(PATH_DELIMITER)) {
-                requestUri = requestUri.substring(0, requestUri.length() - 1);
-                trailingSlash = PATH_DELIMITER;
+            String requestUri = request.getRequestURI();
+            int localeEnd = this.processor.localeEnd(requestUri);
+            LocaleSettings settings = this.processor.settings();
+            if (settings.excludedPaths.matches(requestUri)) {
+                return true;
             }
 
-            String[] explodedRequestUri = requestUri.split(PATH_DELIMITER);
-
-            Locale localeUri = Locale.forLanguageTag(explodedRequestUri[0]);
-
-            boolean isLocaleSupported = this.supportedLocales
-                .stream()
-                .anyMatch(l -> l.toString().equals(localeUri.toString()));
-
-            if (isLocaleSupported) {
-                localeResolver.setLocale(request, response, localeUri);
+            settings = settings.forHost(request.getServerName());
+
+            Locale locale = this.processor.resolve(settings, requestUri, localeEnd);
+            if (locale != null) {
+                localeResolver.setLocale(request, response, locale);
+                LocaleContext localeContext = this.processor.publish(locale);
+                if (localeContext != null) {
+                    // Keeps RequestURILocaleResolver#resolveLocaleContext in
+                    // line with the published context.
+                    request.setAttribute(RequestURILocaleResolver.LOCALE_CONTEXT_ATTRIBUTE, localeContext);
+                }
+                if (settings.alternateLinks != null) {
+                    response.addHeader(HttpHeaders.LINK, settings.alternateLinks.header(requestUri, localeEnd));
+                }
+                if (this.processor.stripLocale) {
+                    request.setAttribute(LOCALE_ATTRIBUTE, locale);
+                    request.setAttribute(PATH_ATTRIBUTE, this.processor.path(requestUri, localeEnd));
+                }
                 return true;
             }
 
-            URL url = this.createUri(request, this.joinUri(explodedRequestUri, trailingSlash)).toURL();
+            HttpStatus rejected = this.processor.guard(settings, requestUri, localeEnd, request);
+            if (rejected != null) {
+                response.setStatus(rejected.value());
+                return false;
+            }
 
-            // Send redirect only with path + query.
-            // No domain handling domain/ip vs. proxies and forwarded.
-            response.sendRedirect(
-                url.getPath() + (url.getQuery() != null ? "?" + url.getQuery() : "")
+            String location = this.processor.redirect(
+                settings,
+                requestUri,
+                localeEnd,
+                request.getQueryString(),
+                settings.isAcceptLanguageRedirect() ? request.getHeader(HttpHeaders.ACCEPT_LANGUAGE) : null
             );
+            RedirectPolicy redirectPolicy = this.processor.redirectPolicy;
+            if (redirectPolicy == null) {
+                // Send redirect only with path + query.
+                // No domain handling domain/ip vs. proxies and forwarded.
+                response.sendRedirect(location);
+            } else {
+                redirectPolicy.sendRedirect(request, response, location, settings.vary);
+            }
 
             return false;
 
@@ -199,22 +625,6 @@ public class RequestURILocaleInterceptor implements HandlerInterceptor {
         }
     }
 
-    private String joinUri(String[] uri, String trailingSlash) {
-        String joinedUri = String.join(
-            PATH_DELIMITER,
-            Arrays.copyOfRange(uri, 1, uri.length)
-        );
-
-        String path = !joinedUri.isEmpty() ? PATH_DELIMITER + joinedUri : "";
-        return !path.isEmpty()
-            ? PATH_DELIMITER + this.formatLocale(this.defaultLocale) + path + trailingSlash
-            : String.format(this.defaultHomePath, this.formatLocale(this.defaultLocale));
-    }
-
-    private String formatLocale(Locale locale) {
-        return locale.toString().toLowerCase().replace("_", "-");
-    }
-
     /**
      * Builds an absolute {@link URI} from the given request's scheme, host
      * and (non-default) port together with the supplied path and the
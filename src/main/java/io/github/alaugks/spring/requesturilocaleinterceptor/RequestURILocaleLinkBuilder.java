@@ -0,0 +1,107 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import java.util.Locale;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+/**
+ * Builds locale-prefixed links with the configuration of a
+ * {@link RequestURILocaleInterceptor}, {@link RequestURILocaleFilter} or
+ * {@link RequestURILocaleWebFilter}, obtained via their
+ * {@code linkBuilder()} method.
+ * <p>The path prefix of each supported locale (e.g. {@code /en-us}) is
+ * pre-computed with the configuration, so building a link is a lookup plus
+ * a single concatenation. Links follow reloads of the configuration. Locales
+ * that are neither supported nor the default locale are replaced by the
+ * default locale, just like the interceptor redirects them. Host
+ * configurations are not taken into account.
+ * <p>The builder is stateless and thread-safe. Registered as a bean, it can
+ * be used from SpEL and Thymeleaf templates, e.g.
+ * {@code th:href="${@requestURILocaleLinkBuilder.link('/products')}"}.
+ */
+public final class RequestURILocaleLinkBuilder {
+
+    private static final char PATH_DELIMITER = '/';
+    private final RequestURILocaleProcessor processor;
+
+    RequestURILocaleLinkBuilder(RequestURILocaleProcessor processor) {
+        this.processor = processor;
+    }
+
+    /**
+     * Returns the given path prefixed with the locale of the current request
+     * as exposed by {@link LocaleContextHolder}.
+     *
+     * @param path the locale-free path, e.g. {@code /products}.
+     * @return the localized link, e.g. {@code /de/products}.
+     */
+    public String link(String path) {
+        return this.link(LocaleContextHolder.getLocale(), path);
+    }
+
+    /**
+     * Returns the given path prefixed with the given locale.
+     *
+     * @param locale the locale of the link.
+     * @param path   the locale-free path, e.g. {@code /products}; a missing
+     *               leading slash is added.
+     * @return the localized link, e.g. {@code /de/products}, or only the
+     *         prefix if the path is {@code null} or empty.
+     */
+    public String link(Locale locale, String path) {
+        String localePrefix = this.processor.settings().localePrefix(locale);
+        if (path == null || path.isEmpty()) {
+            return localePrefix;
+        }
+        return path.charAt(0) == PATH_DELIMITER
+            ? localePrefix + path
+            : localePrefix + PATH_DELIMITER + path;
+    }
+
+    /**
+     * Returns the given request URI with its locale segment replaced by the
+     * given locale, e.g. for a language switcher. A request URI without
+     * supported locale segment is prefixed instead.
+     *
+     * @param requestUri the request URI, e.g. {@code /en/products}.
+     * @param locale     the locale to switch to.
+     * @return the link to the variant of the given locale, e.g.
+     *         {@code /de/products}.
+     */
+    public String switchLocale(String requestUri, Locale locale) {
+        LocaleSettings settings = this.processor.settings();
+        String localePrefix = settings.localePrefix(locale);
+        if (requestUri == null || requestUri.isEmpty() || requestUri.charAt(0) != PATH_DELIMITER) {
+            return this.link(locale, requestUri);
+        }
+
+        int localeEnd = requestUri.indexOf(PATH_DELIMITER, 1);
+        if (localeEnd == -1) {
+            localeEnd = requestUri.length();
+        }
+        if (settings.supportedLocales.find(requestUri, 1, localeEnd) == null
+            && settings.aliasLocales.find(requestUri, 1, localeEnd) == null) {
+            return localePrefix + requestUri;
+        }
+        if (localeEnd == requestUri.length()) {
+            return localePrefix;
+        }
+
+        return new StringBuilder(localePrefix.length() + requestUri.length() - localeEnd)
+            .append(localePrefix)
+            .append(requestUri, localeEnd, requestUri.length())
+            .toString();
+    }
+
+    /**
+     * Returns the path prefix of the given locale.
+     *
+     * @param locale the locale.
+     * @return the pre-computed prefix, e.g. {@code /en-us}.
+     */
+    public String prefix(Locale locale) {
+        return this.processor.settings().localePrefix(locale);
+    }
+}
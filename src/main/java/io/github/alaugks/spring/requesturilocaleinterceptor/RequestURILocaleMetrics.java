@@ -0,0 +1,77 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import java.util.Locale;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Receives the outcome of every request handled by
+ * {@link RequestURILocaleInterceptor}.
+ * <p>Implementations are called on the request thread and must be
+ * thread-safe and cheap. Only supported locales are ever passed to
+ * {@link #localeResolved(Locale)}, unknown first path segments are never
+ * exposed, so metric tags derived from the arguments stay bounded.
+ *
+ * @see MicrometerRequestURILocaleMetrics
+ */
+public interface RequestURILocaleMetrics {
+
+    /**
+     * Reason why a request was redirected.
+     */
+    enum RedirectReason {
+        /**
+         * The request URI has no first path segment, e.g. {@code /}.
+         */
+        ROOT_PATH,
+        /**
+         * The first path segment is not a supported locale.
+         */
+        UNSUPPORTED_LOCALE,
+        /**
+         * The first path segment is not a supported locale, but falls back
+         * to one, e.g. {@code de-at} to {@code de}.
+         */
+        FALLBACK_LOCALE,
+        /**
+         * The first path segment is a supported locale, but not in its
+         * canonical spelling, e.g. {@code en_US} instead of {@code en-us}.
+         */
+        NON_CANONICAL_LOCALE
+    }
+
+    /**
+     * Called when the first path segment matched a supported locale.
+     *
+     * @param locale the supported locale set on the request.
+     */
+    void localeResolved(Locale locale);
+
+    /**
+     * Called when the request was redirected.
+     *
+     * @param reason why the request was redirected.
+     */
+    void redirected(RedirectReason reason);
+
+    /**
+     * Called when the {@link RedirectGuard} answered a request that would
+     * have been redirected with a bare status code instead. Does nothing by
+     * default.
+     *
+     * @param status {@code 400 Bad Request}, {@code 404 Not Found} or
+     *               {@code 429 Too Many Requests}.
+     */
+    default void rejected(HttpStatus status) {
+    }
+
+    /**
+     * Called after {@link RequestURILocaleInterceptor#preHandle} completed,
+     * also if it completed exceptionally.
+     *
+     * @param durationNanos the duration of {@code preHandle} in nanoseconds.
+     */
+    void preHandleCompleted(long durationNanos);
+}
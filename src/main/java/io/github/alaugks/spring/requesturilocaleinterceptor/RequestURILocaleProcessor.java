@@ -0,0 +1,277 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import io.github.alaugks.spring.requesturilocaleinterceptor.RequestURILocaleInterceptor.Builder;
+import io.github.alaugks.spring.requesturilocaleinterceptor.RequestURILocaleMetrics.RedirectReason;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Locale;
+import java.util.TimeZone;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.i18n.SimpleTimeZoneAwareLocaleContext;
+import org.springframework.context.i18n.TimeZoneAwareLocaleContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+/**
+ * Locale decision shared by {@link RequestURILocaleInterceptor} and its
+ * filter counterparts, compiled from a {@link Builder}.
+ * <p>Works on the raw request URI and query string only, so it is
+ * independent of the Servlet and the reactive API.
+ * <p>The locale configuration is held as an immutable {@link LocaleSettings}
+ * snapshot in a single volatile field. A request reads it once via
+ * {@link #settings()} and uses that snapshot for its whole decision, while
+ * {@link #reload(Builder)} swaps it atomically.
+ */
+final class RequestURILocaleProcessor {
+
+    private static final char PATH_DELIMITER = '/';
+    private volatile LocaleSettings settings;
+    private final RedirectCache redirectCache;
+    private final RequestURILocaleMetrics metrics;
+    private final RedirectSourceTracker redirectSourceTracker;
+    final boolean stripLocale;
+    final boolean publishLocaleContext;
+    final RedirectPolicy redirectPolicy;
+    private final RedirectGuard redirectGuard;
+
+    /**
+     * Compiles the configuration of the given builder.
+     *
+     * @param builder builder carrying the configuration.
+     * @throws IllegalArgumentException if the default locale is
+     *                                  {@code null} or empty.
+     */
+    RequestURILocaleProcessor(Builder builder) {
+        this.settings = LocaleSettings.of(builder);
+        this.redirectCache = builder.redirectCache;
+        this.metrics = builder.metrics;
+        this.redirectSourceTracker = builder.redirectSourceTracker;
+        this.stripLocale = builder.stripLocale;
+        this.publishLocaleContext = builder.publishLocaleContext;
+        this.redirectPolicy = builder.redirectPolicy;
+        this.redirectGuard = builder.redirectGuard;
+    }
+
+    /**
+     * Compiles the locale configuration of the given builder and replaces
+     * the current snapshot with it. Redirect cache, metrics and redirect
+     * source tracker are kept.
+     *
+     * @param builder builder carrying the new locale configuration.
+     * @throws IllegalArgumentException if the default locale is
+     *                                  {@code null} or empty; the current
+     *                                  snapshot is kept in that case.
+     */
+    void reload(Builder builder) {
+        this.settings = LocaleSettings.of(builder);
+        if (this.redirectCache != null) {
+            // Entries are scoped to their snapshot, clearing only frees memory.
+            this.redirectCache.clear();
+        }
+    }
+
+    /**
+     * @return the current locale configuration snapshot.
+     */
+    LocaleSettings settings() {
+        return this.settings;
+    }
+
+    /**
+     * Returns the index after the first path segment of the request URI.
+     *
+     * @param requestUri the raw request URI.
+     * @return the index of the second path delimiter, or the length of the
+     *         request URI if there is none.
+     * @throws IllegalArgumentException if the request URI is empty.
+     */
+    int localeEnd(String requestUri) {
+        if (requestUri.isEmpty()) {
+            throw new IllegalArgumentException("RequestURI is empty");
+        }
+
+        // First path segment, without Leading Slash
+        int localeEnd = requestUri.indexOf(PATH_DELIMITER, 1);
+        return localeEnd != -1 ? localeEnd : requestUri.length();
+    }
+
+    /**
+     * Resolves the first path segment to a supported locale.
+     *
+     * @param settings   the snapshot read for this request.
+     * @param requestUri the raw request URI.
+     * @param localeEnd  index after the first path segment.
+     * @return the supported locale, or {@code null} if the request has to
+     *         be redirected, also if the segment has to be redirected to its
+     *         canonical spelling.
+     */
+    Locale resolve(LocaleSettings settings, String requestUri, int localeEnd) {
+        Locale locale = settings.resolve(requestUri, localeEnd);
+        if (locale != null && this.metrics != null) {
+            this.metrics.localeResolved(locale);
+        }
+        return locale;
+    }
+
+    /**
+     * Publishes the resolved locale to {@link LocaleContextHolder} as an
+     * immutable context, if enabled. The time zone of the current context
+     * is kept.
+     *
+     * @param locale the resolved locale.
+     * @return the published context, or {@code null} if disabled.
+     */
+    LocaleContext publish(Locale locale) {
+        if (!this.publishLocaleContext) {
+            return null;
+        }
+
+        TimeZone timeZone = LocaleContextHolder.getLocaleContext() instanceof TimeZoneAwareLocaleContext context
+            ? context.getTimeZone()
+            : null;
+        LocaleContext localeContext = new SimpleTimeZoneAwareLocaleContext(locale, timeZone);
+        LocaleContextHolder.setLocaleContext(localeContext);
+        return localeContext;
+    }
+
+    /**
+     * Returns the request URI without its locale segment.
+     *
+     * @param requestUri the raw request URI.
+     * @param localeEnd  index after the first path segment.
+     * @return the remaining path, or {@code /} if none remains.
+     */
+    String path(String requestUri, int localeEnd) {
+        return localeEnd < requestUri.length()
+            ? requestUri.substring(localeEnd)
+            : String.valueOf(PATH_DELIMITER);
+    }
+
+    /**
+     * Checks an unsupported request against the redirect guard before it is
+     * redirected.
+     *
+     * @param settings   the snapshot read for this request.
+     * @param requestUri the raw request URI.
+     * @param localeEnd  index after the first path segment.
+     * @param request    the current HTTP request, to derive the client key
+     *                   of the rate limit from.
+     * @return the status to answer with instead of a redirect, or
+     *         {@code null} to redirect.
+     */
+    HttpStatus guard(LocaleSettings settings, String requestUri, int localeEnd, HttpServletRequest request) {
+        if (this.redirectGuard == null) {
+            return null;
+        }
+        return this.rejected(this.redirectGuard.check(settings, requestUri, localeEnd, request));
+    }
+
+    /**
+     * Checks an unsupported reactive request against the redirect guard
+     * before it is redirected.
+     *
+     * @param settings   the snapshot read for this request.
+     * @param requestUri the raw request URI.
+     * @param localeEnd  index after the first path segment.
+     * @param request    the current HTTP request, to derive the client key
+     *                   of the rate limit from.
+     * @return the status to answer with instead of a redirect, or
+     *         {@code null} to redirect.
+     */
+    HttpStatus guard(LocaleSettings settings, String requestUri, int localeEnd, ServerHttpRequest request) {
+        if (this.redirectGuard == null) {
+            return null;
+        }
+        return this.rejected(this.redirectGuard.check(settings, requestUri, localeEnd, request));
+    }
+
+    private HttpStatus rejected(HttpStatus status) {
+        if (status != null && this.metrics != null) {
+            this.metrics.rejected(status);
+        }
+        return status;
+    }
+
+    /**
+     * Checks an unsupported request against the redirect guard, without
+     * the rate limit, which only applies to live requests.
+     *
+     * @param settings   the snapshot read for this request.
+     * @param requestUri the raw request URI.
+     * @param localeEnd  index after the first path segment.
+     * @return the status to answer with instead of a redirect, or
+     *         {@code null} to redirect.
+     */
+    HttpStatus guard(LocaleSettings settings, String requestUri, int localeEnd) {
+        return this.redirectGuard != null ? this.redirectGuard.check(settings, requestUri, localeEnd) : null;
+    }
+
+    /**
+     * @return the status of redirects, {@code 302} unless a redirect policy
+     *         configures another one.
+     */
+    HttpStatus redirectStatus() {
+        return this.redirectPolicy != null ? this.redirectPolicy.status : HttpStatus.FOUND;
+    }
+
+    /**
+     * Returns path and query to redirect an unsupported request to: the
+     * canonical spelling of the first path segment if it is an alias, the
+     * fallback locale of the first path segment if it has one, otherwise
+     * the negotiated or default locale.
+     *
+     * @param settings       the snapshot read for this request.
+     * @param requestUri     the raw request URI.
+     * @param localeEnd      index after the first path segment.
+     * @param queryString    the raw query string, may be {@code null}.
+     * @param acceptLanguage the raw {@code Accept-Language} header value,
+     *                       may be {@code null}; only used if
+     *                       {@link LocaleSettings#isAcceptLanguageRedirect()}.
+     * @return path and query of the redirect target.
+     */
+    String redirect(
+        LocaleSettings settings,
+        String requestUri,
+        int localeEnd,
+        String queryString,
+        String acceptLanguage
+    ) {
+        // The snapshot scopes the cached redirects, so a hit skips the
+        // locale lookups of redirectLocation() as well.
+        if (this.redirectCache != null) {
+            RedirectCache.Entry cached = this.redirectCache.get(settings, requestUri, queryString, acceptLanguage);
+            if (cached != null) {
+                this.redirected(requestUri, localeEnd, cached.reason);
+                return cached.location;
+            }
+        }
+
+        RedirectLocation redirectLocation = settings.redirectLocation(requestUri, localeEnd, acceptLanguage);
+        String location = redirectLocation.build(requestUri, localeEnd, queryString);
+        RedirectReason reason = redirectLocation.reason(localeEnd);
+        if (this.redirectCache != null) {
+            this.redirectCache.put(settings, requestUri, queryString, acceptLanguage, location, reason);
+        }
+        this.redirected(requestUri, localeEnd, reason);
+        return location;
+    }
+
+    private void redirected(String requestUri, int localeEnd, RedirectReason reason) {
+        if (this.metrics != null) {
+            this.metrics.redirected(reason);
+        }
+        if (this.redirectSourceTracker != null) {
+            this.redirectSourceTracker.redirected(requestUri, localeEnd, reason);
+        }
+    }
+
+    /**
+     * @return the configured metrics, or {@code null}.
+     */
+    RequestURILocaleMetrics metrics() {
+        return this.metrics;
+    }
+}
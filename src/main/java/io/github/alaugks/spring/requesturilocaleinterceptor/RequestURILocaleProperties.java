@@ -0,0 +1,136 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of {@link RequestURILocaleAutoConfiguration},
+ * bound from the {@code requesturi-locale} prefix, e.g.:
+ * <pre>
+ * requesturi-locale.default-locale=en
+ * requesturi-locale.supported-locales=en,de,en-US
+ * requesturi-locale.default-request-uri=/en/home
+ * </pre>
+ */
+@ConfigurationProperties(prefix = RequestURILocaleProperties.PREFIX)
+public class RequestURILocaleProperties {
+
+    /**
+     * Prefix of the properties.
+     */
+    public static final String PREFIX = "requesturi-locale";
+
+    /**
+     * Default and fallback locale. The auto-configuration is enabled only
+     * if it is set.
+     */
+    private Locale defaultLocale;
+
+    /**
+     * Locales that are supported as the first path segment.
+     */
+    private List<Locale> supportedLocales = new ArrayList<>();
+
+    /**
+     * Path to redirect to if the RequestURI is empty. May contain a
+     * {@code %s} placeholder for the default locale.
+     */
+    private String defaultRequestUri;
+
+    /**
+     * Paths that bypass locale handling, e.g. {@code /static/**}.
+     */
+    private List<String> excludePaths = new ArrayList<>();
+
+    /**
+     * Whether to redirect to the supported locale that best matches the
+     * {@code Accept-Language} header.
+     */
+    private boolean acceptLanguageRedirect;
+
+    /**
+     * Whether to track the most frequent redirect sources, exposed through
+     * the {@code requesturilocale} Actuator endpoint.
+     */
+    private boolean trackRedirectSources;
+
+    /**
+     * Whether to publish the resolved locale to {@code LocaleContextHolder}
+     * and carry it into {@code @Async} and other executor tasks.
+     */
+    private boolean publishLocaleContext;
+
+    public Locale getDefaultLocale() {
+        return this.defaultLocale;
+    }
+
+    public void setDefaultLocale(Locale defaultLocale) {
+        this.defaultLocale = defaultLocale;
+    }
+
+    public List<Locale> getSupportedLocales() {
+        return this.supportedLocales;
+    }
+
+    public void setSupportedLocales(List<Locale> supportedLocales) {
+        this.supportedLocales = supportedLocales;
+    }
+
+    public String getDefaultRequestUri() {
+        return this.defaultRequestUri;
+    }
+
+    public void setDefaultRequestUri(String defaultRequestUri) {
+        this.defaultRequestUri = defaultRequestUri;
+    }
+
+    public List<String> getExcludePaths() {
+        return this.excludePaths;
+    }
+
+    public void setExcludePaths(List<String> excludePaths) {
+        this.excludePaths = excludePaths;
+    }
+
+    public boolean isAcceptLanguageRedirect() {
+        return this.acceptLanguageRedirect;
+    }
+
+    public void setAcceptLanguageRedirect(boolean acceptLanguageRedirect) {
+        this.acceptLanguageRedirect = acceptLanguageRedirect;
+    }
+
+    public boolean isTrackRedirectSources() {
+        return this.trackRedirectSources;
+    }
+
+    public void setTrackRedirectSources(boolean trackRedirectSources) {
+        this.trackRedirectSources = trackRedirectSources;
+    }
+
+    public boolean isPublishLocaleContext() {
+        return this.publishLocaleContext;
+    }
+
+    public void setPublishLocaleContext(boolean publishLocaleContext) {
+        this.publishLocaleContext = publishLocaleContext;
+    }
+
+    /**
+     * @return a new builder carrying these properties.
+     */
+    public RequestURILocaleInterceptor.Builder toBuilder() {
+        return RequestURILocaleInterceptor
+            .builder(this.defaultLocale)
+            .supportedLocales(this.supportedLocales)
+            .defaultRequestURI(this.defaultRequestUri)
+            .excludePaths(this.excludePaths)
+            .acceptLanguageRedirect(this.acceptLanguageRedirect)
+            .publishLocaleContext(this.publishLocaleContext);
+    }
+}
@@ -3,25 +3,44 @@
 
 package io.github.alaugks.spring.requesturilocaleinterceptor;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Locale;
-import org.springframework.context.i18n.SimpleLocaleContext;
-import org.springframework.web.servlet.i18n.AbstractLocaleResolver;
+import java.util.TimeZone;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.i18n.SimpleTimeZoneAwareLocaleContext;
+import org.springframework.context.i18n.TimeZoneAwareLocaleContext;
+import org.springframework.web.servlet.i18n.AbstractLocaleContextResolver;
 
 /**
- * {@link org.springframework.web.servlet.LocaleResolver LocaleResolver}
- * implementation that stores the locale chosen by
+ * {@link org.springframework.web.servlet.LocaleContextResolver
+ * LocaleContextResolver} implementation that stores the locale chosen by
  * {@link RequestURILocaleInterceptor} as a request attribute.
  * <p>{@link #resolveLocale(HttpServletRequest)} returns, in order, the locale
  * previously set via {@link #setLocale(HttpServletRequest, HttpServletResponse, Locale)},
  * the request's {@link HttpServletRequest#getLocale() accept-language locale},
  * or the configured {@link #getDefaultLocale() default locale}.
+ * <p>The resolver keeps no per-request state, the locale lives only in the
+ * attributes of the given request. These survive re-dispatches of the
+ * request, so an {@code ERROR}, {@code ASYNC} or {@code FORWARD} dispatch
+ * resolves the locale of the initial dispatch without parsing the request
+ * URI again, see
+ * {@link RequestURILocaleInterceptor.Builder#dispatcherTypes(DispatcherType...)}.
+ * A single instance can therefore be shared by all request threads.
+ * <p>If the interceptor or {@link RequestURILocaleFilter} publishes the
+ * locale context, see
+ * {@link RequestURILocaleInterceptor.Builder#publishLocaleContext(boolean)},
+ * {@link #resolveLocaleContext(HttpServletRequest)} returns the published
+ * immutable context, which the {@code DispatcherServlet} exposes via
+ * {@link LocaleContextHolder} in filter mode. Otherwise the context is
+ * resolved lazily.
  */
-public class RequestURILocaleResolver extends AbstractLocaleResolver {
+public class RequestURILocaleResolver extends AbstractLocaleContextResolver {
 
     static final String LOCALE_ATTRIBUTE = RequestURILocaleResolver.class.getName() + ".LOCALE";
-    private HttpServletRequest request;
+    static final String LOCALE_CONTEXT_ATTRIBUTE = RequestURILocaleResolver.class.getName() + ".LOCALE_CONTEXT";
 
     /**
      * Resolves the locale for the current request.
@@ -34,7 +53,7 @@ public class RequestURILocaleResolver extends AbstractLocaleResolver {
      */
     @Override
     public Locale resolveLocale(HttpServletRequest request) {
-        Object localAttribute = this.request.getAttribute(LOCALE_ATTRIBUTE);
+        Object localAttribute = request.getAttribute(LOCALE_ATTRIBUTE);
         if (localAttribute != null) {
             return (Locale) localAttribute;
         }
@@ -50,9 +69,44 @@ public class RequestURILocaleResolver extends AbstractLocaleResolver {
         return this.getDefaultLocale();
     }
 
+    /**
+     * Resolves the locale context for the current request.
+     *
+     * @param request the current HTTP request.
+     * @return the immutable context published by the interceptor or
+     *         {@link RequestURILocaleFilter}, otherwise a context that
+     *         resolves the locale via
+     *         {@link #resolveLocale(HttpServletRequest)} on every call and
+     *         carries the configured default time zone.
+     */
+    @Override
+    public LocaleContext resolveLocaleContext(HttpServletRequest request) {
+        Object localeContextAttribute = request.getAttribute(LOCALE_CONTEXT_ATTRIBUTE);
+        if (localeContextAttribute != null) {
+            return (LocaleContext) localeContextAttribute;
+        }
+
+        return new TimeZoneAwareLocaleContext() {
+            @Override
+            public Locale getLocale() {
+                return RequestURILocaleResolver.this.resolveLocale(request);
+            }
+
+            @Override
+            public TimeZone getTimeZone() {
+                return RequestURILocaleResolver.this.getDefaultTimeZone();
+            }
+        };
+    }
+
     /**
      * Stores the given locale as a request attribute so subsequent calls to
      * {@link #resolveLocale(HttpServletRequest)} return it.
+     * <p>If a locale context has been published for the request, it is
+     * replaced by one with the given locale, also in
+     * {@link LocaleContextHolder}, so a later change, e.g. by a
+     * {@code LocaleChangeInterceptor}, is not hidden by the published
+     * context.
      *
      * @param request  the current HTTP request.
      * @param response the current HTTP response; unused.
@@ -63,7 +117,32 @@ public class RequestURILocaleResolver extends AbstractLocaleResolver {
         HttpServletResponse response,
         Locale locale
     ) {
-        request.setAttribute(LOCALE_ATTRIBUTE, new SimpleLocaleContext(locale).getLocale());
-        this.request = request;
+        request.setAttribute(LOCALE_ATTRIBUTE, locale);
+
+        if (request.getAttribute(LOCALE_CONTEXT_ATTRIBUTE) instanceof TimeZoneAwareLocaleContext published) {
+            LocaleContext localeContext = new SimpleTimeZoneAwareLocaleContext(
+                this.resolveLocale(request),
+                published.getTimeZone()
+            );
+            request.setAttribute(LOCALE_CONTEXT_ATTRIBUTE, localeContext);
+            LocaleContextHolder.setLocaleContext(localeContext);
+        }
+    }
+
+    /**
+     * Stores the locale of the given locale context, see
+     * {@link #setLocale(HttpServletRequest, HttpServletResponse, Locale)}.
+     * The time zone is not stored.
+     *
+     * @param request       the current HTTP request.
+     * @param response      the current HTTP response; unused.
+     * @param localeContext the locale context, may be {@code null}.
+     */
+    @Override
+    public void setLocaleContext(HttpServletRequest request,
+        HttpServletResponse response,
+        LocaleContext localeContext
+    ) {
+        this.setLocale(request, response, localeContext != null ? localeContext.getLocale() : null);
     }
 }
@@ -0,0 +1,22 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.boot.context.properties.bind.BindableRuntimeHintsRegistrar;
+
+/**
+ * Registers the {@link RuntimeHints} required by
+ * {@link RequestURILocaleAutoConfiguration} in a native image: reflection
+ * on {@link RequestURILocaleProperties} for property binding. Interceptor
+ * and resolver are plain objects created in bean methods and need no hints.
+ */
+class RequestURILocaleRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BindableRuntimeHintsRegistrar.forTypes(RequestURILocaleProperties.class).registerHints(hints, classLoader);
+    }
+}
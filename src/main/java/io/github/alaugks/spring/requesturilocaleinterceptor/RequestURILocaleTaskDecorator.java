@@ -0,0 +1,72 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.i18n.SimpleLocaleContext;
+import org.springframework.context.i18n.SimpleTimeZoneAwareLocaleContext;
+import org.springframework.context.i18n.TimeZoneAwareLocaleContext;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * {@link TaskDecorator} that carries the {@link LocaleContextHolder} locale
+ * of the submitting thread into executor tasks, e.g. of {@code @Async}
+ * methods or of a {@code ThreadPoolTaskExecutor} or
+ * {@code SimpleAsyncTaskExecutor} running on virtual threads.
+ * <p>The locale context is captured once at submission as an immutable
+ * snapshot, so the task neither resolves the locale again nor touches the
+ * request, which may be completed by the time the task runs. The context of
+ * the worker thread is restored after the task, also if it fails, so pooled
+ * threads never leak a locale into the next task.
+ * <p>Combined with {@link RequestURILocaleInterceptor.Builder#publishLocaleContext(boolean)},
+ * the snapshot is the locale published by the interceptor.
+ */
+public class RequestURILocaleTaskDecorator implements TaskDecorator {
+
+    /**
+     * Decorates the given task with the locale context of the current
+     * thread.
+     *
+     * @param runnable the task to decorate.
+     * @return the decorated task.
+     */
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        LocaleContext localeContext = snapshot(LocaleContextHolder.getLocaleContext());
+        return () -> {
+            LocaleContext previousLocaleContext = LocaleContextHolder.getLocaleContext();
+            LocaleContextHolder.setLocaleContext(localeContext);
+            try {
+                runnable.run();
+            } finally {
+                LocaleContextHolder.setLocaleContext(previousLocaleContext);
+            }
+        };
+    }
+
+    /**
+     * Returns an immutable copy of the given locale context. The lazy
+     * context of the {@code DispatcherServlet}, which asks the
+     * {@code LocaleResolver} on every call, is resolved once.
+     *
+     * @param localeContext the locale context, may be {@code null}.
+     * @return the immutable copy, or {@code null} if no locale context is
+     *         given.
+     */
+    static LocaleContext snapshot(LocaleContext localeContext) {
+        if (localeContext == null
+            || localeContext.getClass() == SimpleLocaleContext.class
+            || localeContext.getClass() == SimpleTimeZoneAwareLocaleContext.class) {
+            return localeContext;
+        }
+        if (localeContext instanceof TimeZoneAwareLocaleContext timeZoneAwareLocaleContext) {
+            return new SimpleTimeZoneAwareLocaleContext(
+                timeZoneAwareLocaleContext.getLocale(),
+                timeZoneAwareLocaleContext.getTimeZone()
+            );
+        }
+        return new SimpleLocaleContext(localeContext.getLocale());
+    }
+}
@@ -0,0 +1,187 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import java.net.URI;
+import java.util.Locale;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Spring WebFlux {@link WebFilter} counterpart of
+ * {@link RequestURILocaleInterceptor}.
+ * <p>If the first path segment of the request path matches one of the
+ * supported locales, the locale is stored as exchange attribute, where
+ * {@link RequestURILocaleContextResolver} picks it up, and the exchange is
+ * passed on. Otherwise the response is redirected exactly like the
+ * interceptor does. The decision is made synchronously without blocking,
+ * so the filter can run on the event loop.
+ * <p>Requires {@code spring-boot-starter-webflux}, which is an optional
+ * dependency of this library.
+ */
+public class RequestURILocaleWebFilter implements WebFilter {
+
+    private final RequestURILocaleProcessor processor;
+    private final RequestURILocaleLinkBuilder linkBuilder;
+    private final RequestURILocaleDecider decider;
+
+    /**
+     * Creates a new filter from the values configured on the given
+     * {@link RequestURILocaleInterceptor.Builder}.
+     *
+     * @param builder builder carrying the configuration.
+     * @throws IllegalArgumentException if the default locale is
+     *                                  {@code null} or empty.
+     */
+    public RequestURILocaleWebFilter(RequestURILocaleInterceptor.Builder builder) {
+        this.processor = new RequestURILocaleProcessor(builder);
+        this.linkBuilder = new RequestURILocaleLinkBuilder(this.processor);
+        this.decider = new RequestURILocaleDecider(this.processor);
+    }
+
+    /**
+     * Atomically replaces the locale configuration (default locale,
+     * supported locales, default RequestURI and host configurations) with
+     * the one configured on the given builder, e.g. to roll out a new
+     * market without a redeploy.
+     * <p>The configuration is compiled before it is swapped in. Requests
+     * in flight finish with the previous configuration, later requests see
+     * the new one. Redirect cache and metrics configured at construction
+     * are kept, the redirect cache is cleared.
+     *
+     * @param builder builder carrying the new locale configuration.
+     * @throws IllegalArgumentException if the default locale is
+     *                                  {@code null} or empty; the current
+     *                                  configuration is kept in that case.
+     */
+    public void reload(RequestURILocaleInterceptor.Builder builder) {
+        this.processor.reload(builder);
+    }
+
+    /**
+     * Returns a {@link RequestURILocaleLinkBuilder} that builds
+     * locale-prefixed links with the configuration of this filter. The
+     * builder follows {@link #reload(RequestURILocaleInterceptor.Builder)
+     * reloads}.
+     *
+     * @return the link builder.
+     */
+    public RequestURILocaleLinkBuilder linkBuilder() {
+        return this.linkBuilder;
+    }
+
+    /**
+     * Returns a {@link RequestURILocaleDecider} that decides request URIs
+     * with the configuration of this filter without a request, e.g. to
+     * validate sitemaps. The decider follows
+     * {@link #reload(RequestURILocaleInterceptor.Builder) reloads}.
+     *
+     * @return the decider.
+     */
+    public RequestURILocaleDecider decider() {
+        return this.decider;
+    }
+
+    /**
+     * Inspects the first path segment of the request path and either
+     * passes the exchange on with the resolved locale or redirects it.
+     *
+     * @param exchange the current server exchange.
+     * @param chain    provides a way to delegate to the next filter.
+     * @return {@code Mono<Void>} to indicate when request processing is
+     *         complete.
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        RequestURILocaleMetrics metrics = this.processor.metrics();
+        if (metrics == null) {
+            return this.handle(exchange, chain);
+        }
+
+        long start = System.nanoTime();
+        try {
+            return this.handle(exchange, chain);
+        } finally {
+            metrics.preHandleCompleted(System.nanoTime() - start);
+        }
+    }
+
+    private Mono<Void> handle(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String requestUri = request.getPath().value();
+        int localeEnd = this.processor.localeEnd(requestUri);
+        LocaleSettings settings = this.processor.settings();
+        if (settings.excludedPaths.matches(requestUri)) {
+            return chain.filter(exchange);
+        }
+
+        settings = settings.forHost(request.getURI().getHost());
+
+        Locale locale = this.processor.resolve(settings, requestUri, localeEnd);
+        if (locale != null) {
+            exchange.getAttributes().put(RequestURILocaleContextResolver.LOCALE_ATTRIBUTE, locale);
+            if (settings.alternateLinks != null) {
+                exchange.getResponse().getHeaders().add(
+                    HttpHeaders.LINK,
+                    settings.alternateLinks.header(requestUri, localeEnd)
+                );
+            }
+            if (!this.processor.stripLocale) {
+                return chain.filter(exchange);
+            }
+
+            String path = this.processor.path(requestUri, localeEnd);
+            exchange.getAttributes().put(RequestURILocaleInterceptor.LOCALE_ATTRIBUTE, locale);
+            exchange.getAttributes().put(RequestURILocaleInterceptor.PATH_ATTRIBUTE, path);
+            return chain.filter(exchange.mutate().request(request.mutate().path(path).build()).build());
+        }
+
+        HttpStatus rejected = this.processor.guard(settings, requestUri, localeEnd, request);
+        if (rejected != null) {
+            exchange.getResponse().setStatusCode(rejected);
+            return exchange.getResponse().setComplete();
+        }
+
+        String location = this.processor.redirect(
+            settings,
+            requestUri,
+            localeEnd,
+            request.getURI().getRawQuery(),
+            settings.isAcceptLanguageRedirect() ? request.getHeaders().getFirst(HttpHeaders.ACCEPT_LANGUAGE) : null
+        );
+        ServerHttpResponse response = exchange.getResponse();
+        RedirectPolicy redirectPolicy = this.processor.redirectPolicy;
+        if (redirectPolicy == null) {
+            // Send redirect only with path + query.
+            // No domain handling domain/ip vs. proxies and forwarded.
+            response.setStatusCode(HttpStatus.FOUND);
+            response.getHeaders().set(HttpHeaders.LOCATION, location);
+            return response.setComplete();
+        }
+
+        HttpHeaders headers = response.getHeaders();
+        response.setStatusCode(redirectPolicy.status);
+        if (redirectPolicy.absoluteLocation) {
+            URI uri = request.getURI();
+            location = redirectPolicy.absoluteLocation(uri.getScheme(), uri.getHost(), uri.getPort(), location);
+        }
+        headers.set(HttpHeaders.LOCATION, location);
+        if (redirectPolicy.cacheControl != null) {
+            headers.setCacheControl(redirectPolicy.cacheControl);
+        }
+        if (redirectPolicy.expiresMillis >= 0) {
+            headers.setExpires(System.currentTimeMillis() + redirectPolicy.expiresMillis);
+        }
+        if (settings.vary != null) {
+            headers.set(HttpHeaders.VARY, settings.vary);
+        }
+        return response.setComplete();
+    }
+}
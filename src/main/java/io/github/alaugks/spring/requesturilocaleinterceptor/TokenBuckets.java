@@ -0,0 +1,96 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, lock-free table of token buckets keyed on a client.
+ * <p>Clients are hashed onto a power-of-two number of stripes; clients that
+ * share a stripe share its bucket, so memory stays bounded however many
+ * clients there are. Each bucket is a single {@code long} holding the time
+ * of its last refill and its tokens, updated with compare-and-set. A bucket
+ * never used before is full.
+ */
+final class TokenBuckets {
+
+    private static final int TOKEN_BITS = 20;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    static final int MAX_BURST = (int) TOKEN_MASK;
+    private final AtomicLongArray buckets;
+    private final int mask;
+    private final long permitsPerSecond;
+    private final long burst;
+    private final long fullRefillMillis;
+    private final long origin = System.nanoTime();
+
+    /**
+     * Creates a new table.
+     *
+     * @param permitsPerSecond tokens added per second.
+     * @param burst            tokens of a full bucket, at most
+     *                         {@value #MAX_BURST}.
+     * @param stripes          the number of buckets, rounded up to a power
+     *                         of two.
+     */
+    TokenBuckets(int permitsPerSecond, int burst, int stripes) {
+        int size = Integer.highestOneBit(Math.max(stripes, 2) - 1) << 1;
+        this.buckets = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.fullRefillMillis = (burst * 1000L + permitsPerSecond - 1) / permitsPerSecond;
+    }
+
+    /**
+     * Takes a token from the bucket of the given client.
+     *
+     * @param client the client key, e.g. its address.
+     * @return {@code true} if a token was available.
+     */
+    boolean tryAcquire(String client) {
+        return this.tryAcquire(client, this.now());
+    }
+
+    boolean tryAcquire(String client, long now) {
+        int hash = client.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & this.mask;
+        while (true) {
+            long state = this.buckets.get(slot);
+            long last;
+            long tokens;
+            if (state == 0) {
+                last = now;
+                tokens = this.burst;
+            } else {
+                last = state >>> TOKEN_BITS;
+                tokens = state & TOKEN_MASK;
+                long elapsed = now - last;
+                if (elapsed >= this.fullRefillMillis) {
+                    last = now;
+                    tokens = this.burst;
+                } else if (elapsed > 0) {
+                    long refill = elapsed * this.permitsPerSecond / 1000;
+                    if (refill > 0) {
+                        // Keep the remainder of the elapsed time for the next refill.
+                        last += refill * 1000 / this.permitsPerSecond;
+                        tokens = Math.min(this.burst, tokens + refill);
+                    }
+                }
+            }
+
+            if (tokens == 0) {
+                return false;
+            }
+            if (this.buckets.compareAndSet(slot, state, (last << TOKEN_BITS) | (tokens - 1))) {
+                return true;
+            }
+        }
+    }
+
+    // Milliseconds since creation, starting at 1 so that 0 marks an unused bucket.
+    private long now() {
+        return (System.nanoTime() - this.origin) / 1_000_000 + 1;
+    }
+}
@@ -0,0 +1,58 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class AcceptLanguageNegotiatorTest {
+
+    AcceptLanguageNegotiator negotiator = new AcceptLanguageNegotiator(
+        List.of(Locale.forLanguageTag("en"), Locale.forLanguageTag("en-US"), Locale.forLanguageTag("de")),
+        Locale.forLanguageTag("en")
+    );
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_negotiate")
+    void test_negotiate(String acceptLanguage, String expected) {
+        assertEquals(Locale.forLanguageTag(expected), this.negotiator.negotiate(acceptLanguage));
+    }
+
+    private static Stream<Arguments> dataProvider_negotiate() {
+        return Stream.of(
+            // (String acceptLanguage, String expected)
+            Arguments.of("de", "de"),
+            Arguments.of("de-AT", "de"),
+            Arguments.of("DE-at", "de"),
+            Arguments.of("en-US", "en-US"),
+            Arguments.of("en-GB", "en"),
+            Arguments.of("fr;q=0.9,de;q=0.8", "de"),
+            Arguments.of("de;q=0.2,en-US;q=0.8", "en-US"),
+            Arguments.of("fr", "en"),
+            Arguments.of("invalid;;q=x", "en")
+        );
+    }
+
+    @Test
+    void test_negotiate_cached() {
+        Locale locale = this.negotiator.negotiate("de-CH,de;q=0.9");
+
+        assertSame(locale, this.negotiator.negotiate("de-CH,de;q=0.9"));
+    }
+
+    @Test
+    void test_negotiate_longHeader() {
+        String acceptLanguage = "x-aaaaaaaa;q=0.1,".repeat(AcceptLanguageNegotiator.MAX_CACHED_LENGTH) + "de";
+
+        assertEquals(Locale.forLanguageTag("de"), this.negotiator.negotiate(acceptLanguage));
+    }
+}
@@ -0,0 +1,87 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class AlternateLinksTest {
+
+    static List<Locale> supportedLocales = List.of(
+        Locale.forLanguageTag("en"),
+        Locale.forLanguageTag("en-US"),
+        Locale.forLanguageTag("de"),
+        Locale.forLanguageTag("en")
+    );
+
+    static String header(AlternateLinks alternateLinks, String requestUri) {
+        int localeEnd = requestUri.indexOf('/', 1);
+        return alternateLinks.header(requestUri, localeEnd != -1 ? localeEnd : requestUri.length());
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_header")
+    void test_header(String origin, String requestUri, String expected) {
+        AlternateLinks alternateLinks = AlternateLinks.of(supportedLocales, Locale.forLanguageTag("en"), origin, 0);
+
+        assertEquals(expected, header(alternateLinks, requestUri));
+    }
+
+    private static Stream<Arguments> dataProvider_header() {
+        return Stream.of(
+            // (String origin, String requestUri, String expected)
+            Arguments.of(
+                null,
+                "/de/products/1",
+                "</en/products/1>; rel=\"alternate\"; hreflang=\"en\", "
+                    + "</en-us/products/1>; rel=\"alternate\"; hreflang=\"en-US\", "
+                    + "</de/products/1>; rel=\"alternate\"; hreflang=\"de\", "
+                    + "</en/products/1>; rel=\"alternate\"; hreflang=\"x-default\""
+            ),
+            Arguments.of(
+                null,
+                "/de",
+                "</en>; rel=\"alternate\"; hreflang=\"en\", "
+                    + "</en-us>; rel=\"alternate\"; hreflang=\"en-US\", "
+                    + "</de>; rel=\"alternate\"; hreflang=\"de\", "
+                    + "</en>; rel=\"alternate\"; hreflang=\"x-default\""
+            ),
+            Arguments.of(
+                "https://example.com",
+                "/en-us/",
+                "<https://example.com/en/>; rel=\"alternate\"; hreflang=\"en\", "
+                    + "<https://example.com/en-us/>; rel=\"alternate\"; hreflang=\"en-US\", "
+                    + "<https://example.com/de/>; rel=\"alternate\"; hreflang=\"de\", "
+                    + "<https://example.com/en/>; rel=\"alternate\"; hreflang=\"x-default\""
+            )
+        );
+    }
+
+    @Test
+    void test_header_cache() {
+        AlternateLinks alternateLinks = AlternateLinks.of(supportedLocales, Locale.forLanguageTag("en"), null, 10);
+
+        String header = header(alternateLinks, "/de/products");
+
+        assertSame(header, header(alternateLinks, "/de/products"));
+        assertEquals(header, header(alternateLinks, "/en/products"));
+    }
+
+    @Test
+    void test_header_cache_longRequestUri() {
+        AlternateLinks alternateLinks = AlternateLinks.of(supportedLocales, Locale.forLanguageTag("en"), null, 10);
+        String requestUri = "/de/" + "a".repeat(AlternateLinks.MAX_CACHED_LENGTH);
+
+        assertNotSame(header(alternateLinks, requestUri), header(alternateLinks, requestUri));
+    }
+}
@@ -0,0 +1,64 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class LocaleAliasesTest {
+
+    static List<Locale> supportedLocales = List.of(
+        Locale.forLanguageTag("en-US"),
+        Locale.forLanguageTag("he"),
+        Locale.forLanguageTag("id-ID"),
+        Locale.forLanguageTag("zh-Hant-TW")
+    );
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_find")
+    void test_find(String segment, String expected) {
+        LocaleLookup lookup = LocaleAliases.of(supportedLocales, Locale.forLanguageTag("en"));
+        String requestUri = "/" + segment + "/home";
+
+        Locale locale = lookup.find(requestUri, 1, requestUri.indexOf('/', 1));
+
+        assertEquals(expected, locale != null ? locale.toLanguageTag() : null);
+    }
+
+    private static Stream<Arguments> dataProvider_find() {
+        return Stream.of(
+            // (String segment, String expected)
+            Arguments.of("en-us", "en-US"),
+            Arguments.of("EN-US", "en-US"),
+            Arguments.of("en_US", "en-US"),
+            Arguments.of("en_us", "en-US"),
+            Arguments.of("he", "he"),
+            Arguments.of("iw", "he"),
+            Arguments.of("IW", "he"),
+            Arguments.of("in-id", "id-ID"),
+            Arguments.of("in_ID", "id-ID"),
+            Arguments.of("zh_Hant_TW", "zh-Hant-TW"),
+            Arguments.of("EN", "en"),
+            Arguments.of("en", "en"),
+            Arguments.of("en-gb", null),
+            Arguments.of("ji", null),
+            Arguments.of("en__us", null)
+        );
+    }
+
+    @Test
+    void test_find_returnsSupportedInstance() {
+        LocaleLookup lookup = LocaleAliases.of(supportedLocales, Locale.forLanguageTag("en"));
+
+        assertSame(supportedLocales.get(1), lookup.find("/iw/home", 1, 3));
+    }
+}
@@ -0,0 +1,141 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class LocaleFallbackGraphTest {
+
+    static List<Locale> supportedLocales = List.of(
+        Locale.forLanguageTag("en"),
+        Locale.forLanguageTag("de"),
+        Locale.forLanguageTag("de-CH"),
+        Locale.forLanguageTag("pt"),
+        Locale.forLanguageTag("zh-Hant"),
+        Locale.forLanguageTag("sr-Latn")
+    );
+
+    static Locale find(LocaleFallbackGraph graph, String tag) {
+        String requestUri = "/" + tag + "/home";
+        return graph.find(requestUri, 1, requestUri.indexOf('/', 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_regional")
+    void test_regional(String tag, String expected) {
+        LocaleFallbackGraph graph = LocaleFallbackGraph.of(supportedLocales, true, Map.of());
+
+        Locale locale = find(graph, tag);
+
+        assertEquals(expected, locale != null ? locale.toLanguageTag() : null);
+    }
+
+    private static Stream<Arguments> dataProvider_regional() {
+        return Stream.of(
+            // (String tag, String expected)
+            Arguments.of("de-at", "de"),
+            Arguments.of("DE-AT", "de"),
+            Arguments.of("de-li", "de"),
+            Arguments.of("pt-br", "pt"),
+            Arguments.of("en-gb", "en"),
+            Arguments.of("en-us", "en"),
+            Arguments.of("zh-hant-tw", "zh-Hant"),
+            Arguments.of("zh-hant-hk", "zh-Hant"),
+            Arguments.of("zh-hans-cn", null),
+            Arguments.of("zh-tw", null),
+            Arguments.of("fr-fr", null),
+            Arguments.of("de", null),
+            Arguments.of("de-ch", null),
+            Arguments.of("wp-admin", null),
+            // Variant and script subtags
+            Arguments.of("de-ch-1996", "de-CH"),
+            Arguments.of("DE-CH-1996", "de-CH"),
+            Arguments.of("de-1996", "de"),
+            Arguments.of("de-latn-at", "de"),
+            Arguments.of("sr-latn-me", "sr-Latn"),
+            Arguments.of("sr-latn", null),
+            Arguments.of("sr-cyrl-rs", null),
+            Arguments.of("zh-hant-tw-x-private", "zh-Hant"),
+            // Empty subtags
+            Arguments.of("de-", null),
+            Arguments.of("de--at", null),
+            Arguments.of("-de", null)
+        );
+    }
+
+    @Test
+    void test_regional_returnsSupportedInstance() {
+        LocaleFallbackGraph graph = LocaleFallbackGraph.of(supportedLocales, true, Map.of());
+
+        assertSame(supportedLocales.get(1), find(graph, "de-at"));
+    }
+
+    @Test
+    void test_explicit() {
+        Map<Locale, Locale> fallbacks = new LinkedHashMap<>();
+        fallbacks.put(Locale.forLanguageTag("gsw"), Locale.forLanguageTag("de-CH"));
+        fallbacks.put(Locale.forLanguageTag("de-AT"), Locale.forLanguageTag("de-CH"));
+        fallbacks.put(Locale.forLanguageTag("pt-BR"), Locale.forLanguageTag("pt-PT"));
+        fallbacks.put(Locale.forLanguageTag("pt-PT"), Locale.forLanguageTag("pt"));
+        LocaleFallbackGraph graph = LocaleFallbackGraph.of(supportedLocales, false, fallbacks);
+
+        assertEquals(Locale.forLanguageTag("de-CH"), find(graph, "gsw"));
+        // Explicit fallbacks take precedence over regional fallback
+        assertEquals(Locale.forLanguageTag("de-CH"), find(graph, "de-at"));
+        // Chained fallbacks
+        assertEquals(Locale.forLanguageTag("pt"), find(graph, "pt-br"));
+        assertEquals(Locale.forLanguageTag("pt"), find(graph, "pt-pt"));
+        // Regional fallback disabled
+        assertNull(find(graph, "de-li"));
+        assertNull(find(graph, "de-at-1996"));
+    }
+
+    @Test
+    void test_explicit_regional() {
+        Map<Locale, Locale> fallbacks = Map.of(
+            Locale.forLanguageTag("nl-BE"), Locale.forLanguageTag("de-BE"),
+            Locale.forLanguageTag("de-AT"), Locale.forLanguageTag("de-CH")
+        );
+        LocaleFallbackGraph graph = LocaleFallbackGraph.of(supportedLocales, true, fallbacks);
+
+        // de-BE is not supported and falls back to de
+        assertEquals(Locale.forLanguageTag("de"), find(graph, "nl-be"));
+        // The longest prefix with a fallback wins
+        assertEquals(Locale.forLanguageTag("de"), find(graph, "nl-be-1996"));
+        assertNull(find(graph, "nl-nl"));
+        assertEquals(Locale.forLanguageTag("de-CH"), find(graph, "de-at-1996"));
+    }
+
+    @Test
+    void test_explicit_cycle() {
+        Map<Locale, Locale> fallbacks = new LinkedHashMap<>();
+        fallbacks.put(Locale.forLanguageTag("fr-BE"), Locale.forLanguageTag("nl-BE"));
+        fallbacks.put(Locale.forLanguageTag("nl-BE"), Locale.forLanguageTag("fr-BE"));
+        LocaleFallbackGraph graph = LocaleFallbackGraph.of(supportedLocales, false, fallbacks);
+
+        assertNull(find(graph, "fr-be"));
+        assertNull(find(graph, "nl-be"));
+    }
+
+    @Test
+    void test_disabled() {
+        LocaleFallbackGraph graph = LocaleFallbackGraph.of(supportedLocales, false, Map.of());
+
+        assertTrue(graph.isEmpty());
+        assertNull(find(graph, "de-at"));
+    }
+}
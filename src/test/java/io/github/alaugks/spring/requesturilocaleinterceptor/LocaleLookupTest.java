@@ -0,0 +1,98 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class LocaleLookupTest {
+
+    static List<Locale> supportedLocales = List.of(
+        Locale.forLanguageTag("en"),
+        Locale.forLanguageTag("en-US"),
+        Locale.forLanguageTag("de"),
+        Locale.forLanguageTag("zh-Hant-TW")
+    );
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_find")
+    void test_find(String requestUri, String expected) {
+        LocaleLookup lookup = LocaleLookup.of(supportedLocales);
+        int end = requestUri.indexOf('/', 1);
+
+        Locale locale = lookup.find(requestUri, 1, end != -1 ? end : requestUri.length());
+
+        assertEquals(expected, locale != null ? locale.toLanguageTag() : null);
+    }
+
+    private static Stream<Arguments> dataProvider_find() {
+        return Stream.of(
+            // (String requestUri, String expected)
+            Arguments.of("/en/home", "en"),
+            Arguments.of("/en", "en"),
+            Arguments.of("/en/", "en"),
+            Arguments.of("/EN/home", "en"),
+            Arguments.of("/en-us/home", "en-US"),
+            Arguments.of("/en-US/home", "en-US"),
+            Arguments.of("/zh-hant-tw/home", "zh-Hant-TW"),
+            Arguments.of("/de/home", "de"),
+            Arguments.of("/it/home", null),
+            Arguments.of("/en-GB/home", null),
+            Arguments.of("/english/home", null),
+            Arguments.of("/e/home", null),
+            Arguments.of("/", null),
+            Arguments.of("//en", null)
+        );
+    }
+
+    @Test
+    void test_find_returnsSupportedInstance() {
+        LocaleLookup lookup = LocaleLookup.of(supportedLocales);
+
+        assertSame(supportedLocales.get(1), lookup.find("/en-us", 1, 6));
+    }
+
+    @Test
+    void test_find_manyLocales() {
+        List<Locale> locales = Arrays.stream(Locale.getAvailableLocales())
+            .filter(l -> !l.toLanguageTag().equals("und"))
+            .toList();
+        LocaleLookup lookup = LocaleLookup.of(locales);
+
+        for (Locale locale : locales) {
+            String requestUri = "/" + locale.toLanguageTag() + "/home";
+            assertEquals(
+                locale.toLanguageTag(),
+                lookup.find(requestUri, 1, requestUri.indexOf('/', 1)).toLanguageTag()
+            );
+        }
+    }
+
+    @Test
+    void test_find_noLocales() {
+        LocaleLookup lookup = LocaleLookup.of(List.of());
+
+        assertNull(lookup.find("/en/home", 1, 3));
+    }
+
+    @Test
+    void test_find_foldSeparators() {
+        LocaleLookup lookup = LocaleLookup.of(Map.of("en-us", Locale.forLanguageTag("en-US")), true);
+
+        assertEquals(Locale.forLanguageTag("en-US"), lookup.find("/en_US/home", 1, 6));
+        assertEquals(Locale.forLanguageTag("en-US"), lookup.find("/en-us/home", 1, 6));
+        assertNull(LocaleLookup.of(supportedLocales).find("/en_US/home", 1, 6));
+    }
+}
@@ -0,0 +1,119 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.alaugks.spring.requesturilocaleinterceptor.mocks.MockLocaleResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.DispatcherServlet;
+
+class MicrometerRequestURILocaleMetricsTest {
+
+    SimpleMeterRegistry registry;
+    RequestURILocaleInterceptor interceptor;
+
+    @BeforeEach
+    void beforeEach() {
+        this.registry = new SimpleMeterRegistry();
+        this.interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(List.of(Locale.forLanguageTag("en"), Locale.forLanguageTag("de")))
+            .metrics(new MicrometerRequestURILocaleMetrics(this.registry))
+            .build();
+    }
+
+    void preHandle(String requestUri) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE, new MockLocaleResolver());
+        request.setRequestURI(requestUri);
+        this.interceptor.preHandle(request, new MockHttpServletResponse(), null);
+    }
+
+    @Test
+    void test_metrics() {
+        this.preHandle("/en/home");
+        this.preHandle("/de/home");
+        this.preHandle("/DE/home");
+        this.preHandle("/it/home");
+        this.preHandle("/wp-admin");
+        this.preHandle("/");
+
+        assertEquals(1, this.registry.get("requesturi.locale.resolved").tag("locale", "en").counter().count());
+        assertEquals(2, this.registry.get("requesturi.locale.resolved").tag("locale", "de").counter().count());
+        assertEquals(2, this.registry.get("requesturi.locale.resolved").counters().size());
+        assertEquals(
+            2,
+            this.registry.get("requesturi.locale.redirects").tag("reason", "unsupported_locale").counter().count()
+        );
+        assertEquals(1, this.registry.get("requesturi.locale.redirects").tag("reason", "root_path").counter().count());
+        assertEquals(6, this.registry.get("requesturi.locale.prehandle").timer().count());
+    }
+
+    @Test
+    void test_metrics_fallbackLocale() {
+        this.interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(List.of(Locale.forLanguageTag("en"), Locale.forLanguageTag("de")))
+            .regionalFallback(true)
+            .metrics(new MicrometerRequestURILocaleMetrics(this.registry))
+            .build();
+        this.preHandle("/de-at/home");
+        this.preHandle("/it/home");
+
+        assertEquals(
+            1,
+            this.registry.get("requesturi.locale.redirects").tag("reason", "fallback_locale").counter().count()
+        );
+        assertEquals(
+            1,
+            this.registry.get("requesturi.locale.redirects").tag("reason", "unsupported_locale").counter().count()
+        );
+    }
+
+    @Test
+    void test_metrics_rejected() {
+        this.interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(List.of(Locale.forLanguageTag("en"), Locale.forLanguageTag("de")))
+            .redirectGuard(RedirectGuard.builder().maxRequestURILength(16).rateLimit(1, 1).build())
+            .metrics(new MicrometerRequestURILocaleMetrics(this.registry))
+            .build();
+        this.preHandle("/it/" + "a".repeat(16));
+        this.preHandle("/it/en/home");
+        this.preHandle("/it/home");
+        this.preHandle("/it/home");
+        this.preHandle("/en/home");
+
+        assertEquals(1, this.registry.get("requesturi.locale.rejected").tag("status", "400").counter().count());
+        assertEquals(1, this.registry.get("requesturi.locale.rejected").tag("status", "404").counter().count());
+        assertEquals(1, this.registry.get("requesturi.locale.rejected").tag("status", "429").counter().count());
+        assertEquals(
+            1,
+            this.registry.get("requesturi.locale.redirects").tag("reason", "unsupported_locale").counter().count()
+        );
+    }
+
+    @Test
+    void test_metrics_exception() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRequestURI("/en/home");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThrows(
+            RequestURILocaleInterceptorException.class,
+            () -> this.interceptor.preHandle(request, response, null)
+        );
+        assertEquals(1, this.registry.get("requesturi.locale.prehandle").timer().count());
+        assertNull(this.registry.find("requesturi.locale.resolved").counter());
+    }
+}
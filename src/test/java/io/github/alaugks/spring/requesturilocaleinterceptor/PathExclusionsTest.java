@@ -0,0 +1,92 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class PathExclusionsTest {
+
+    static PathExclusions exclusions = PathExclusions.of(List.of(
+        "/static/**",
+        "/actuator",
+        "/api/",
+        "/api/v2/**",
+        "/.well-known/**",
+        "/favicon.ico"
+    ));
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_matches")
+    void test_matches(String requestUri, boolean expected) {
+        assertEquals(expected, exclusions.matches(requestUri));
+    }
+
+    private static Stream<Arguments> dataProvider_matches() {
+        return Stream.of(
+            // (String requestUri, boolean expected)
+            Arguments.of("/static", true),
+            Arguments.of("/static/", true),
+            Arguments.of("/static/css/main.css", true),
+            Arguments.of("/actuator/health", true),
+            Arguments.of("/api", true),
+            Arguments.of("/api/v1/users", true),
+            Arguments.of("/api/v2", true),
+            Arguments.of("/.well-known/security.txt", true),
+            Arguments.of("/favicon.ico", true),
+            Arguments.of("/staticfiles", false),
+            Arguments.of("/apidocs", false),
+            Arguments.of("/Static/main.css", false),
+            Arguments.of("/stat", false),
+            Arguments.of("/en/static", false),
+            Arguments.of("/favicon.ico.bak", false),
+            Arguments.of("/", false)
+        );
+    }
+
+    @Test
+    void test_matches_anyPath() {
+        PathExclusions anyPath = PathExclusions.of(List.of("/**"));
+
+        assertTrue(anyPath.matches("/"));
+        assertTrue(anyPath.matches("/en/home"));
+    }
+
+    @Test
+    void test_none() {
+        assertSame(PathExclusions.NONE, PathExclusions.of(null));
+        assertSame(PathExclusions.NONE, PathExclusions.of(List.of()));
+        assertFalse(PathExclusions.NONE.matches("/static"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_invalid")
+    void test_invalid(String excludePath, String expected) {
+        var excludePaths = List.of(excludePath);
+        var e = assertThrows(IllegalArgumentException.class, () -> PathExclusions.of(excludePaths));
+
+        assertEquals(expected, e.getMessage());
+    }
+
+    private static Stream<Arguments> dataProvider_invalid() {
+        return Stream.of(
+            // (String excludePath, String expected)
+            Arguments.of(" ", "Exclude path is empty"),
+            Arguments.of("static/**", "Exclude path must start with /: static/**"),
+            Arguments.of("/static/*.css", "Exclude path supports only a trailing /**: /static/*.css"),
+            Arguments.of("/**/static", "Exclude path supports only a trailing /**: /**/static"),
+            Arguments.of("/api/{version}", "Exclude path supports only a trailing /**: /api/{version}")
+        );
+    }
+}
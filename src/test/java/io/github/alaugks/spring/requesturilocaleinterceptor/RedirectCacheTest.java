@@ -0,0 +1,232 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.alaugks.spring.requesturilocaleinterceptor.RedirectCache.Eviction;
+import io.github.alaugks.spring.requesturilocaleinterceptor.RequestURILocaleMetrics.RedirectReason;
+import io.github.alaugks.spring.requesturilocaleinterceptor.mocks.MockLocaleResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.DispatcherServlet;
+
+class RedirectCacheTest {
+
+    static final Object SCOPE = new Object();
+
+    @Test
+    void test_getAndPut() {
+        RedirectCache cache = new RedirectCache(10);
+
+        assertNull(cache.get(SCOPE, "/it/home", null, null));
+        cache.put(SCOPE, "/it/home", null, null, "/en/home", RedirectReason.UNSUPPORTED_LOCALE);
+        cache.put(SCOPE, "/it/home", "a=b", null, "/en/home?a=b", RedirectReason.UNSUPPORTED_LOCALE);
+
+        assertEquals("/en/home", cache.get(SCOPE, "/it/home", null, null).location);
+        assertEquals("/en/home?a=b", cache.get(SCOPE, "/it/home", "a=b", null).location);
+        assertNull(cache.get(SCOPE, "/it/home", "a=c", null));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void test_eviction_fifo() {
+        RedirectCache cache = new RedirectCache(2, Eviction.FIFO);
+        cache.put(SCOPE, "/a", null, null, "/en/a", RedirectReason.UNSUPPORTED_LOCALE);
+        cache.put(SCOPE, "/b", null, null, "/en/b", RedirectReason.UNSUPPORTED_LOCALE);
+        cache.get(SCOPE, "/a", null, null);
+        cache.put(SCOPE, "/c", null, null, "/en/c", RedirectReason.UNSUPPORTED_LOCALE);
+
+        assertNull(cache.get(SCOPE, "/a", null, null));
+        assertEquals("/en/b", cache.get(SCOPE, "/b", null, null).location);
+        assertEquals("/en/c", cache.get(SCOPE, "/c", null, null).location);
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void test_eviction_lru() {
+        RedirectCache cache = new RedirectCache(2, Eviction.LRU);
+        cache.put(SCOPE, "/a", null, null, "/en/a", RedirectReason.UNSUPPORTED_LOCALE);
+        cache.put(SCOPE, "/b", null, null, "/en/b", RedirectReason.UNSUPPORTED_LOCALE);
+        cache.get(SCOPE, "/a", null, null);
+        cache.put(SCOPE, "/c", null, null, "/en/c", RedirectReason.UNSUPPORTED_LOCALE);
+
+        assertEquals("/en/a", cache.get(SCOPE, "/a", null, null).location);
+        assertNull(cache.get(SCOPE, "/b", null, null));
+        assertEquals("/en/c", cache.get(SCOPE, "/c", null, null).location);
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void test_eviction_concurrent_isBounded() throws InterruptedException {
+        RedirectCache cache = new RedirectCache(100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    String uri = "/" + ((i * 31 + thread) % 1_000);
+                    if (cache.get(SCOPE, uri, null, null) == null) {
+                        cache.put(SCOPE, uri, null, null, "/en" + uri, RedirectReason.UNSUPPORTED_LOCALE);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertTrue(cache.size() <= 100);
+        assertEquals(80_000, cache.getHitCount() + cache.getMissCount());
+    }
+
+    @Test
+    void test_scope() {
+        RedirectCache cache = new RedirectCache(10);
+        cache.put(SCOPE, "/a", null, null, "/en/a", RedirectReason.UNSUPPORTED_LOCALE);
+
+        assertNull(cache.get(new Object(), "/a", null, null));
+        assertEquals("/en/a", cache.get(SCOPE, "/a", null, null).location);
+    }
+
+    @Test
+    void test_acceptLanguage() {
+        RedirectCache cache = new RedirectCache(10);
+        cache.put(SCOPE, "/a", null, "de", "/de/a", RedirectReason.UNSUPPORTED_LOCALE);
+
+        assertNull(cache.get(SCOPE, "/a", null, null));
+        assertNull(cache.get(SCOPE, "/a", null, "en"));
+        assertEquals("/de/a", cache.get(SCOPE, "/a", null, "de").location);
+    }
+
+    @Test
+    void test_clear() {
+        RedirectCache cache = new RedirectCache(10);
+        cache.put(SCOPE, "/a", null, null, "/en/a", RedirectReason.UNSUPPORTED_LOCALE);
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get(SCOPE, "/a", null, null));
+    }
+
+    @Test
+    void test_clear_concurrent_isBounded() throws InterruptedException {
+        RedirectCache cache = new RedirectCache(100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    if (thread % 2 == 0) {
+                        cache.clear();
+                    } else {
+                        cache.put(SCOPE, "/" + thread + "/" + i, null, null, "/en/" + i, RedirectReason.UNSUPPORTED_LOCALE);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Entries left behind by a racing clear() could not be evicted.
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(SCOPE, "/after/" + i, null, null, "/en/after/" + i, RedirectReason.UNSUPPORTED_LOCALE);
+        }
+        assertEquals(100, cache.size());
+    }
+
+    @Test
+    void test_maximumSize_invalid() {
+        var e = assertThrows(IllegalArgumentException.class, () -> new RedirectCache(0));
+
+        assertEquals("Maximum size must be greater than 0", e.getMessage());
+    }
+
+    @Test
+    void test_interceptor_redirectCache() {
+        RedirectCache cache = new RedirectCache(10);
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(List.of(Locale.forLanguageTag("en")))
+            .redirectCache(cache)
+            .build();
+
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setAttribute(DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE, new MockLocaleResolver());
+            request.setRequestURI("/it/home");
+            request.setQueryString("a=b");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            interceptor.preHandle(request, response, null);
+
+            assertEquals("/en/home?a=b", response.getRedirectedUrl());
+        }
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void test_interceptor_redirectCache_acceptLanguage() {
+        RedirectCache cache = new RedirectCache(10);
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(List.of(Locale.forLanguageTag("en"), Locale.forLanguageTag("de")))
+            .acceptLanguageRedirect(true)
+            .redirectCache(cache)
+            .build();
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals("/de/home", this.redirect(interceptor, "/it/home", "de-DE,de;q=0.9"));
+            assertEquals("/en/home", this.redirect(interceptor, "/it/home", "fr"));
+        }
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void test_interceptor_redirectCache_metrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(List.of(Locale.forLanguageTag("en"), Locale.forLanguageTag("de")))
+            .fallback(Locale.forLanguageTag("it"), Locale.forLanguageTag("de"))
+            .redirectCache(new RedirectCache(10))
+            .metrics(new MicrometerRequestURILocaleMetrics(registry))
+            .build();
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals("/de/home", this.redirect(interceptor, "/it/home", null));
+            assertEquals("/en", this.redirect(interceptor, "/", null));
+        }
+        assertEquals(
+            2,
+            registry.get("requesturi.locale.redirects").tag("reason", "fallback_locale").counter().count()
+        );
+        assertEquals(2, registry.get("requesturi.locale.redirects").tag("reason", "root_path").counter().count());
+    }
+
+    private String redirect(RequestURILocaleInterceptor interceptor, String requestUri, String acceptLanguage) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE, new MockLocaleResolver());
+        request.setRequestURI(requestUri);
+        if (acceptLanguage != null) {
+            request.addHeader(HttpHeaders.ACCEPT_LANGUAGE, acceptLanguage);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+        return response.getRedirectedUrl();
+    }
+}
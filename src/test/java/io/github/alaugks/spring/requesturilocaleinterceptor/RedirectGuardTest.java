@@ -0,0 +1,292 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.alaugks.spring.requesturilocaleinterceptor.mocks.MockLocaleResolver;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.servlet.DispatcherServlet;
+import reactor.core.publisher.Mono;
+
+class RedirectGuardTest {
+
+    static LocaleSettings settings(boolean acceptLanguageRedirect) {
+        return LocaleSettings.of(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(List.of(
+                    Locale.forLanguageTag("en"),
+                    Locale.forLanguageTag("en-US"),
+                    Locale.forLanguageTag("de")
+                ))
+                .canonicalRedirect(true)
+                .regionalFallback(true)
+                .acceptLanguageRedirect(acceptLanguageRedirect)
+        );
+    }
+
+    static HttpStatus check(RedirectGuard guard, LocaleSettings settings, String requestUri) {
+        int localeEnd = requestUri.indexOf('/', 1);
+        return guard.check(
+            settings,
+            requestUri,
+            localeEnd != -1 ? localeEnd : requestUri.length(),
+            "127.0.0.1"
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_check")
+    void test_check(String requestUri, HttpStatus expected) {
+        RedirectGuard guard = RedirectGuard.builder().maxRequestURILength(32).build();
+
+        assertEquals(expected, check(guard, settings(false), requestUri));
+    }
+
+    private static Stream<Arguments> dataProvider_check() {
+        return Stream.of(
+            // (String requestUri, HttpStatus expected)
+            Arguments.of("/", null),
+            Arguments.of("/it", null),
+            Arguments.of("/it/", null),
+            Arguments.of("/it/home", null),
+            Arguments.of("/it/de/home", null),
+            Arguments.of("/it/de/us", null),
+            Arguments.of("/it/de/en/home", HttpStatus.NOT_FOUND),
+            Arguments.of("/it/de-CH/en_us/home", HttpStatus.NOT_FOUND),
+            Arguments.of("/it/de/en/", HttpStatus.NOT_FOUND),
+            // Repeats the locale of the redirect target
+            Arguments.of("/it/en/home", HttpStatus.NOT_FOUND),
+            Arguments.of("/it/EN", HttpStatus.NOT_FOUND),
+            Arguments.of("/de-at/de/home", HttpStatus.NOT_FOUND),
+            Arguments.of("/en_us/en-US/home", HttpStatus.NOT_FOUND),
+            Arguments.of("/de-at/en/home", null),
+            // Short segments that are no known locale
+            Arguments.of("/faq/top/new/old/x", null),
+            Arguments.of("/img/ui/x", null),
+            Arguments.of("/api/v1/users", null),
+            Arguments.of("/xx/xx/xx/xx", null),
+            Arguments.of("/it/xx/de/en", null),
+            Arguments.of("/it/home/de/en", null),
+            Arguments.of("/it//de/en", null),
+            Arguments.of("//de/en/home", null),
+            Arguments.of("/" + "a".repeat(32), HttpStatus.BAD_REQUEST)
+        );
+    }
+
+    @Test
+    void test_check_acceptLanguageRedirect() {
+        RedirectGuard guard = RedirectGuard.builder().build();
+        LocaleSettings settings = settings(true);
+
+        // The target locale depends on the header, only counted
+        assertNull(check(guard, settings, "/it/en/home"));
+        assertEquals(HttpStatus.NOT_FOUND, check(guard, settings, "/it/de/en/home"));
+        // The fallback locale does not
+        assertEquals(HttpStatus.NOT_FOUND, check(guard, settings, "/de-at/de/home"));
+    }
+
+    @Test
+    void test_check_maxLocaleSegments() {
+        RedirectGuard guard = RedirectGuard.builder().maxLocaleSegments(1).build();
+        LocaleSettings settings = settings(false);
+
+        assertNull(check(guard, settings, "/xx/home"));
+        assertNull(check(guard, settings, "/xx/v1/home"));
+        assertEquals(HttpStatus.NOT_FOUND, check(guard, settings, "/xx/de/home"));
+    }
+
+    @Test
+    void test_check_rateLimit() {
+        RedirectGuard guard = RedirectGuard.builder().rateLimit(1, 2).build();
+        LocaleSettings settings = settings(false);
+
+        assertNull(guard.check(settings, "/it/home", 3, "10.0.0.1"));
+        assertNull(guard.check(settings, "/it/home", 3, "10.0.0.1"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, guard.check(settings, "/it/home", 3, "10.0.0.1"));
+        assertNull(guard.check(settings, "/it/home", 3, "10.0.0.2"));
+        assertNull(guard.check(settings, "/it/home", 3, (String) null));
+    }
+
+    @Test
+    void test_tokenBuckets_refill() {
+        TokenBuckets buckets = new TokenBuckets(10, 2, 16);
+
+        assertEquals(true, buckets.tryAcquire("a", 1));
+        assertEquals(true, buckets.tryAcquire("a", 1));
+        assertEquals(false, buckets.tryAcquire("a", 1));
+        assertEquals(false, buckets.tryAcquire("a", 99));
+        assertEquals(true, buckets.tryAcquire("a", 101));
+        assertEquals(false, buckets.tryAcquire("a", 150));
+        assertEquals(true, buckets.tryAcquire("a", 201));
+        // Full after a long pause, never more than the burst
+        assertEquals(true, buckets.tryAcquire("a", 100_000));
+        assertEquals(true, buckets.tryAcquire("a", 100_000));
+        assertEquals(false, buckets.tryAcquire("a", 100_000));
+    }
+
+    @Test
+    void test_interceptor_redirectGuard() {
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(List.of(Locale.forLanguageTag("en"), Locale.forLanguageTag("de")))
+            .redirectGuard(RedirectGuard.builder().rateLimit(1, 1).build())
+            .build();
+
+        MockHttpServletResponse response = this.preHandle(interceptor, "/xx/de/en/home");
+        assertEquals(404, response.getStatus());
+        assertNull(response.getRedirectedUrl());
+
+        assertEquals("/en/api/v1", this.preHandle(interceptor, "/xx/api/v1").getRedirectedUrl());
+        response = this.preHandle(interceptor, "/it/home");
+        assertEquals(429, response.getStatus());
+        assertNull(response.getRedirectedUrl());
+
+        // Supported locales are never limited
+        assertEquals(200, this.preHandle(interceptor, "/de/home").getStatus());
+    }
+
+    MockHttpServletResponse preHandle(RequestURILocaleInterceptor interceptor, String requestUri) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE, new MockLocaleResolver());
+        request.setRequestURI(requestUri);
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean proceed = interceptor.preHandle(request, response, null);
+        assertEquals(response.getStatus() == 200 && response.getRedirectedUrl() == null, proceed);
+        return response;
+    }
+
+    @Test
+    void test_interceptor_clientKey() {
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(List.of(Locale.forLanguageTag("en")))
+            .redirectGuard(
+                RedirectGuard.builder()
+                    .rateLimit(1, 1)
+                    .clientKey(request -> request.getHeader("X-Client"))
+                    .build()
+            )
+            .build();
+
+        // All requests share the remote address 10.0.0.1
+        assertEquals(302, this.preHandle(interceptor, "/it/home", "a").getStatus());
+        assertEquals(302, this.preHandle(interceptor, "/it/home", "b").getStatus());
+        assertEquals(429, this.preHandle(interceptor, "/it/home", "a").getStatus());
+    }
+
+    MockHttpServletResponse preHandle(RequestURILocaleInterceptor interceptor, String requestUri, String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE, new MockLocaleResolver());
+        request.setRequestURI(requestUri);
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("X-Client", client);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+        return response;
+    }
+
+    @Test
+    void test_webFilter_reactiveClientKey() {
+        RequestURILocaleWebFilter webFilter = new RequestURILocaleWebFilter(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(List.of(Locale.forLanguageTag("en")))
+                .redirectGuard(
+                    RedirectGuard.builder()
+                        .rateLimit(1, 1)
+                        .reactiveClientKey(request -> request.getHeaders().getFirst("X-Client"))
+                        .build()
+                )
+        );
+
+        assertEquals(HttpStatus.FOUND, this.filter(webFilter, "a"));
+        assertEquals(HttpStatus.FOUND, this.filter(webFilter, "b"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, this.filter(webFilter, "a"));
+    }
+
+    HttpStatus filter(RequestURILocaleWebFilter webFilter, String client) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest
+                .method(HttpMethod.GET, URI.create("/it/home"))
+                .remoteAddress(new InetSocketAddress("10.0.0.1", 1234))
+                .header("X-Client", client)
+        );
+        webFilter.filter(exchange, e -> Mono.error(new IllegalStateException())).block();
+        return (HttpStatus) exchange.getResponse().getStatusCode();
+    }
+
+    @Test
+    void test_webFilter_redirectGuard() {
+        RequestURILocaleWebFilter webFilter = new RequestURILocaleWebFilter(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(List.of(Locale.forLanguageTag("en")))
+                .redirectGuard(RedirectGuard.builder().maxRequestURILength(16).build())
+        );
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest
+                .method(HttpMethod.GET, URI.create("/it/" + "a".repeat(16)))
+                .remoteAddress(new InetSocketAddress("10.0.0.1", 1234))
+        );
+
+        webFilter.filter(exchange, e -> Mono.error(new IllegalStateException())).block();
+
+        assertEquals(HttpStatus.BAD_REQUEST, exchange.getResponse().getStatusCode());
+        assertFalse(exchange.getResponse().getHeaders().containsKey("Location"));
+    }
+
+    @Test
+    void test_builder_invalid() {
+        var builder = RedirectGuard.builder();
+
+        assertEquals(
+            "Maximum RequestURI length must be greater than 0",
+            assertThrows(IllegalArgumentException.class, () -> builder.maxRequestURILength(0)).getMessage()
+        );
+        assertEquals(
+            "Maximum locale segments must be greater than 0",
+            assertThrows(IllegalArgumentException.class, () -> builder.maxLocaleSegments(0)).getMessage()
+        );
+        assertEquals(
+            "Permits per second must be greater than 0",
+            assertThrows(IllegalArgumentException.class, () -> builder.rateLimit(0, 1)).getMessage()
+        );
+        assertEquals(
+            "Burst must be between 1 and 1048575",
+            assertThrows(IllegalArgumentException.class, () -> builder.rateLimit(1, 0)).getMessage()
+        );
+        assertEquals(
+            "Rate limit buckets must be greater than 0",
+            assertThrows(IllegalArgumentException.class, () -> builder.rateLimitBuckets(0)).getMessage()
+        );
+        assertEquals(
+            "Client key is null",
+            assertThrows(IllegalArgumentException.class, () -> builder.clientKey(null)).getMessage()
+        );
+        assertEquals(
+            "Client key is null",
+            assertThrows(IllegalArgumentException.class, () -> builder.reactiveClientKey(null)).getMessage()
+        );
+    }
+}
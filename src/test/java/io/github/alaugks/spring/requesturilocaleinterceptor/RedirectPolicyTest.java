@@ -0,0 +1,180 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.alaugks.spring.requesturilocaleinterceptor.mocks.MockLocaleResolver;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.DispatcherServlet;
+
+class RedirectPolicyTest {
+
+    static List<Locale> supportedLocales = List.of(Locale.forLanguageTag("en"), Locale.forLanguageTag("de"));
+
+    MockHttpServletResponse preHandle(RequestURILocaleInterceptor.Builder builder, MockHttpServletRequest request) {
+        request.setAttribute(DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE, new MockLocaleResolver());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(builder.build().preHandle(request, response, null));
+        return response;
+    }
+
+    @Test
+    void test_default() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/it/home");
+        MockHttpServletResponse response = this.preHandle(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(supportedLocales)
+                .redirectPolicy(RedirectPolicy.builder().build()),
+            request
+        );
+
+        assertEquals(302, response.getStatus());
+        assertEquals("/en/home", response.getHeader(HttpHeaders.LOCATION));
+        assertNull(response.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertNull(response.getHeader(HttpHeaders.EXPIRES));
+        assertNull(response.getHeader(HttpHeaders.VARY));
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_status")
+    void test_status(HttpStatus status) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/it/home");
+        MockHttpServletResponse response = this.preHandle(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(supportedLocales)
+                .redirectPolicy(RedirectPolicy.builder().status(status).build()),
+            request
+        );
+
+        assertEquals(status.value(), response.getStatus());
+        assertEquals("/en/home", response.getRedirectedUrl());
+    }
+
+    private static Stream<Arguments> dataProvider_status() {
+        return Stream.of(
+            // (HttpStatus status)
+            Arguments.of(HttpStatus.MOVED_PERMANENTLY),
+            Arguments.of(HttpStatus.FOUND),
+            Arguments.of(HttpStatus.TEMPORARY_REDIRECT),
+            Arguments.of(HttpStatus.PERMANENT_REDIRECT)
+        );
+    }
+
+    @Test
+    void test_status_invalid() {
+        var builder = RedirectPolicy.builder();
+        var e = assertThrows(IllegalArgumentException.class, () -> builder.status(HttpStatus.OK));
+
+        assertEquals("Redirect status must be 301, 302, 307 or 308", e.getMessage());
+    }
+
+    @Test
+    void test_cacheHeaders() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/it/home");
+        long now = System.currentTimeMillis();
+        MockHttpServletResponse response = this.preHandle(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(supportedLocales)
+                .redirectPolicy(
+                    RedirectPolicy.builder()
+                        .status(HttpStatus.MOVED_PERMANENTLY)
+                        .cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePublic())
+                        .expires(Duration.ofHours(1))
+                        .build()
+                ),
+            request
+        );
+
+        assertEquals("max-age=3600, public", response.getHeader(HttpHeaders.CACHE_CONTROL));
+        long expires = response.getDateHeader(HttpHeaders.EXPIRES);
+        assertTrue(expires >= now + 3_600_000 - 1_000 && expires <= System.currentTimeMillis() + 3_600_000);
+    }
+
+    @Test
+    void test_expires_negative() {
+        var builder = RedirectPolicy.builder();
+        var expires = Duration.ofSeconds(-1);
+        var e = assertThrows(IllegalArgumentException.class, () -> builder.expires(expires));
+
+        assertEquals("Expires must not be negative", e.getMessage());
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_vary")
+    void test_vary(boolean acceptLanguageRedirect, boolean hosts, String expected) {
+        RequestURILocaleInterceptor.Builder builder = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(supportedLocales)
+            .acceptLanguageRedirect(acceptLanguageRedirect)
+            .redirectPolicy(RedirectPolicy.builder().build());
+        if (hosts) {
+            builder.host("shop.ch", RequestURILocaleInterceptor.builder(Locale.forLanguageTag("de")));
+        }
+        MockHttpServletResponse response = this.preHandle(builder, new MockHttpServletRequest("GET", "/it/home"));
+
+        assertEquals(expected, response.getHeader(HttpHeaders.VARY));
+    }
+
+    private static Stream<Arguments> dataProvider_vary() {
+        return Stream.of(
+            // (boolean acceptLanguageRedirect, boolean hosts, String expected)
+            Arguments.of(false, false, null),
+            Arguments.of(true, false, "Accept-Language"),
+            Arguments.of(false, true, "Host"),
+            Arguments.of(true, true, "Accept-Language, Host")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_absoluteLocation")
+    void test_absoluteLocation(String scheme, String serverName, int serverPort, String expected) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/it/home");
+        request.setScheme(scheme);
+        request.setServerName(serverName);
+        request.setServerPort(serverPort);
+        request.setQueryString("a=b");
+        MockHttpServletResponse response = this.preHandle(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(supportedLocales)
+                .redirectPolicy(RedirectPolicy.builder().absoluteLocation(true).build()),
+            request
+        );
+
+        assertEquals(expected, response.getHeader(HttpHeaders.LOCATION));
+    }
+
+    private static Stream<Arguments> dataProvider_absoluteLocation() {
+        return Stream.of(
+            // (String scheme, String serverName, int serverPort, String expected)
+            Arguments.of("http", "example.com", 80, "http://example.com/en/home?a=b"),
+            Arguments.of("https", "example.com", 443, "https://example.com/en/home?a=b"),
+            Arguments.of("https", "example.com", 8443, "https://example.com:8443/en/home?a=b"),
+            Arguments.of("http", "example.com", 443, "http://example.com:443/en/home?a=b"),
+            Arguments.of("http", "::1", 8080, "http://[::1]:8080/en/home?a=b"),
+            Arguments.of("http", "[::1]", 80, "http://[::1]/en/home?a=b")
+        );
+    }
+}
@@ -0,0 +1,122 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.alaugks.spring.requesturilocaleinterceptor.RedirectSourceTracker.Source;
+import io.github.alaugks.spring.requesturilocaleinterceptor.mocks.MockLocaleResolver;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.DispatcherServlet;
+
+class RedirectSourceTrackerTest {
+
+    static void preHandle(RequestURILocaleInterceptor interceptor, String requestUri) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE, new MockLocaleResolver());
+        request.setRequestURI(requestUri);
+        request.setQueryString("utm_source=campaign");
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+    }
+
+    @Test
+    void test_interceptor_redirectSourceTracker() {
+        RedirectSourceTracker tracker = new RedirectSourceTracker(3);
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(List.of(Locale.forLanguageTag("en"), Locale.forLanguageTag("de")))
+            .redirectSourceTracker(tracker)
+            .build();
+
+        for (int i = 0; i < 5; i++) {
+            preHandle(interceptor, "/wp-admin");
+        }
+        for (int i = 0; i < 3; i++) {
+            preHandle(interceptor, "/it/products");
+        }
+        preHandle(interceptor, "/it/home");
+        preHandle(interceptor, "/");
+        preHandle(interceptor, "/en/products");
+
+        assertEquals(
+            List.of(new Source("wp-admin", 5), new Source("it", 4)),
+            tracker.getTopSegments()
+        );
+        // A new path only replaces an entry with a lower count.
+        assertEquals(
+            List.of(new Source("/wp-admin", 5), new Source("/it/products", 3), new Source("/it/home", 1)),
+            tracker.getTopPaths()
+        );
+    }
+
+    @Test
+    void test_heavyHitters_fixedCapacity() {
+        HeavyHitters heavyHitters = new HeavyHitters(1024, 5);
+        for (int i = 0; i < 100_000; i++) {
+            String value = i % 10 == 0 ? "/wp-admin" : "/" + i;
+            heavyHitters.add(value, 0, value.length());
+        }
+
+        List<Source> top = heavyHitters.top();
+        assertTrue(top.size() <= 5);
+        assertEquals("/wp-admin", top.get(0).value());
+        assertTrue(top.get(0).count() >= 10_000);
+    }
+
+    @Test
+    void test_heavyHitters_truncated() {
+        HeavyHitters heavyHitters = new HeavyHitters(64, 2);
+        String value = "/" + "a".repeat(1_000);
+        heavyHitters.add(value, 0, value.length());
+
+        assertEquals(HeavyHitters.MAX_LENGTH, heavyHitters.top().get(0).value().length());
+    }
+
+    @Test
+    void test_heavyHitters_concurrent() throws InterruptedException {
+        HeavyHitters heavyHitters = new HeavyHitters(1024, 10);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    String value = i % 2 == 0 ? "/xx" : "/" + thread + "/" + i;
+                    heavyHitters.add(value, 0, value.length());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        Source top = heavyHitters.top().get(0);
+        assertEquals("/xx", top.value());
+        assertTrue(top.count() >= 40_000);
+    }
+
+    @Test
+    void test_clear() {
+        RedirectSourceTracker tracker = new RedirectSourceTracker();
+        tracker.redirected("/it/home", 3, RequestURILocaleMetrics.RedirectReason.UNSUPPORTED_LOCALE);
+        tracker.clear();
+
+        assertEquals(List.of(), tracker.getTopSegments());
+        assertEquals(List.of(), tracker.getTopPaths());
+    }
+
+    @Test
+    void test_capacity_invalid() {
+        var e = assertThrows(IllegalArgumentException.class, () -> new RedirectSourceTracker(0));
+
+        assertEquals("Capacity must be greater than 0", e.getMessage());
+    }
+}
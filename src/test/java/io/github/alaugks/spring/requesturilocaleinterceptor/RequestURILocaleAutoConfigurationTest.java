@@ -0,0 +1,254 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.alaugks.spring.requesturilocaleinterceptor.RedirectSourceTracker.Source;
+import io.github.alaugks.spring.requesturilocaleinterceptor.RequestURILocaleEndpoint.RedirectSources;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.context.annotation.ImportCandidates;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.LocaleResolver;
+import org.springframework.web.servlet.i18n.FixedLocaleResolver;
+
+class RequestURILocaleAutoConfigurationTest {
+
+    WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            RequestURILocaleAutoConfiguration.class,
+            WebMvcAutoConfiguration.class
+        ));
+
+    @Test
+    void test_disabled() {
+        this.contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(RequestURILocaleInterceptor.class);
+            assertThat(context).doesNotHaveBean(RequestURILocaleResolver.class);
+        });
+    }
+
+    @Test
+    void test_enabled() {
+        this.contextRunner
+            .withPropertyValues(
+                "requesturi-locale.default-locale=en",
+                "requesturi-locale.supported-locales=en,de,en-US",
+                "requesturi-locale.default-request-uri=/%s/home",
+                "requesturi-locale.exclude-paths=/static/**"
+            )
+            .run(context -> {
+                RequestURILocaleProperties properties = context.getBean(RequestURILocaleProperties.class);
+                assertEquals(Locale.forLanguageTag("en"), properties.getDefaultLocale());
+                assertEquals(
+                    List.of(Locale.forLanguageTag("en"), Locale.forLanguageTag("de"), Locale.forLanguageTag("en-US")),
+                    properties.getSupportedLocales()
+                );
+
+                LocaleResolver localeResolver = context.getBean(
+                    DispatcherServlet.LOCALE_RESOLVER_BEAN_NAME,
+                    LocaleResolver.class
+                );
+                assertInstanceOf(RequestURILocaleResolver.class, localeResolver);
+
+                RequestURILocaleInterceptor interceptor = context.getBean(RequestURILocaleInterceptor.class);
+                MockHttpServletRequest request = new MockHttpServletRequest();
+                request.setAttribute(DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE, localeResolver);
+                request.setRequestURI("/en-us/products");
+                assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+                assertEquals(Locale.forLanguageTag("en-US"), localeResolver.resolveLocale(request));
+
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                request = new MockHttpServletRequest();
+                request.setAttribute(DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE, localeResolver);
+                request.setRequestURI("/");
+                assertFalse(interceptor.preHandle(request, response, null));
+                assertEquals("/en/home", response.getRedirectedUrl());
+
+                request.setRequestURI("/static/main.css");
+                assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+
+                assertEquals(
+                    "/de/products",
+                    context.getBean(RequestURILocaleLinkBuilder.class).link(Locale.GERMAN, "/products")
+                );
+            });
+    }
+
+    @Test
+    void test_localeResolver_userDefined() {
+        this.contextRunner
+            .withPropertyValues("requesturi-locale.default-locale=en")
+            .withBean(
+                DispatcherServlet.LOCALE_RESOLVER_BEAN_NAME,
+                LocaleResolver.class,
+                () -> new FixedLocaleResolver(Locale.GERMAN)
+            )
+            .run(context -> {
+                assertThat(context).hasSingleBean(RequestURILocaleInterceptor.class);
+                assertInstanceOf(
+                    FixedLocaleResolver.class,
+                    context.getBean(DispatcherServlet.LOCALE_RESOLVER_BEAN_NAME)
+                );
+            });
+    }
+
+    @Test
+    void test_trackRedirectSources() {
+        this.contextRunner
+            .withPropertyValues(
+                "requesturi-locale.default-locale=en",
+                "requesturi-locale.track-redirect-sources=true"
+            )
+            .run(context -> {
+                RequestURILocaleInterceptor interceptor = context.getBean(RequestURILocaleInterceptor.class);
+                MockHttpServletRequest request = new MockHttpServletRequest();
+                request.setAttribute(
+                    DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE,
+                    context.getBean(DispatcherServlet.LOCALE_RESOLVER_BEAN_NAME)
+                );
+                request.setRequestURI("/wp-admin");
+                interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+                RedirectSources redirectSources = context.getBean(RequestURILocaleEndpoint.class).redirectSources();
+                assertEquals(List.of(new Source("wp-admin", 1)), redirectSources.segments());
+                assertEquals(List.of(new Source("/wp-admin", 1)), redirectSources.paths());
+            });
+    }
+
+    @Test
+    void test_trackRedirectSources_disabled() {
+        this.contextRunner
+            .withPropertyValues("requesturi-locale.default-locale=en")
+            .run(context -> {
+                assertThat(context).doesNotHaveBean(RedirectSourceTracker.class);
+                assertThat(context).doesNotHaveBean(RequestURILocaleEndpoint.class);
+            });
+    }
+
+    @Test
+    void test_trackRedirectSources_withoutActuator() {
+        this.contextRunner
+            .withClassLoader(new FilteredClassLoader(Endpoint.class))
+            .withPropertyValues(
+                "requesturi-locale.default-locale=en",
+                "requesturi-locale.track-redirect-sources=true"
+            )
+            .run(context -> {
+                assertThat(context).hasSingleBean(RedirectSourceTracker.class);
+                assertThat(context).doesNotHaveBean(RequestURILocaleEndpoint.class);
+            });
+    }
+
+    @Test
+    void test_publishLocaleContext() {
+        this.contextRunner
+            .withPropertyValues(
+                "requesturi-locale.default-locale=en",
+                "requesturi-locale.publish-locale-context=true"
+            )
+            .run(context -> {
+                assertThat(context).hasSingleBean(RequestURILocaleTaskDecorator.class);
+                assertThat(context).hasSingleBean(RequestURILocaleContextAccessor.class);
+                assertTrue(RequestURILocaleContextAccessorTest.isRegistered());
+
+                RequestURILocaleInterceptor interceptor = context.getBean(RequestURILocaleInterceptor.class);
+                MockHttpServletRequest request = new MockHttpServletRequest();
+                request.setAttribute(
+                    DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE,
+                    context.getBean(DispatcherServlet.LOCALE_RESOLVER_BEAN_NAME)
+                );
+                request.setRequestURI("/en/home");
+                try {
+                    interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+                    assertEquals(Locale.forLanguageTag("en"), LocaleContextHolder.getLocaleContext().getLocale());
+                } finally {
+                    LocaleContextHolder.resetLocaleContext();
+                }
+            });
+    }
+
+    @Test
+    void test_publishLocaleContext_ownTaskDecorator() {
+        this.contextRunner
+            .withPropertyValues(
+                "requesturi-locale.default-locale=en",
+                "requesturi-locale.publish-locale-context=true"
+            )
+            .withBean(TaskDecorator.class, () -> runnable -> runnable)
+            .run(context -> {
+                assertThat(context).hasSingleBean(TaskDecorator.class);
+                assertThat(context).doesNotHaveBean(RequestURILocaleTaskDecorator.class);
+            });
+    }
+
+    @Test
+    void test_publishLocaleContext_disabled() {
+        this.contextRunner
+            .withPropertyValues("requesturi-locale.default-locale=en")
+            .run(context -> {
+                assertThat(context).doesNotHaveBean(RequestURILocaleTaskDecorator.class);
+                assertThat(context).doesNotHaveBean(RequestURILocaleContextAccessor.class);
+                assertFalse(RequestURILocaleContextAccessorTest.isRegistered());
+            });
+    }
+
+    @Test
+    void test_publishLocaleContext_contextClosed() {
+        this.contextRunner
+            .withPropertyValues(
+                "requesturi-locale.default-locale=en",
+                "requesturi-locale.publish-locale-context=true"
+            )
+            .run(context -> assertTrue(RequestURILocaleContextAccessorTest.isRegistered()));
+
+        assertFalse(RequestURILocaleContextAccessorTest.isRegistered());
+    }
+
+    @Test
+    void test_nonWebApplication() {
+        new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(RequestURILocaleAutoConfiguration.class))
+            .withPropertyValues("requesturi-locale.default-locale=en")
+            .run(context -> assertThat(context).doesNotHaveBean(RequestURILocaleInterceptor.class));
+    }
+
+    @Test
+    void test_autoConfigurationImports() {
+        assertThat(ImportCandidates.load(AutoConfiguration.class, this.getClass().getClassLoader()))
+            .contains(RequestURILocaleAutoConfiguration.class.getName());
+    }
+
+    @Test
+    void test_runtimeHints() {
+        RuntimeHints hints = new RuntimeHints();
+        new RequestURILocaleRuntimeHints().registerHints(hints, this.getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection().onType(RequestURILocaleProperties.class).test(hints));
+        assertTrue(
+            RuntimeHintsPredicates.reflection().onMethod(RequestURILocaleProperties.class, "setDefaultLocale")
+                .test(hints)
+        );
+    }
+}
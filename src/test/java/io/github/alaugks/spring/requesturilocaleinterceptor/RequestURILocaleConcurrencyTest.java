@@ -0,0 +1,153 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.DispatcherServlet;
+
+/**
+ * Runs thousands of requests through one shared interceptor and one shared
+ * resolver on many threads and verifies that every request resolves to the
+ * locale of its own RequestURI.
+ * <p>All threads set their locale first and wait on a barrier before they
+ * resolve it, so a resolver or interceptor that keeps request state in an
+ * instance field leaks locales between requests deterministically.
+ */
+class RequestURILocaleConcurrencyTest {
+
+    static final int THREADS = 64;
+    static final int ROUNDS = 100;
+    static List<Locale> supportedLocales = List.of(
+        Locale.forLanguageTag("en"),
+        Locale.forLanguageTag("en-US"),
+        Locale.forLanguageTag("de"),
+        Locale.forLanguageTag("fr"),
+        Locale.forLanguageTag("it"),
+        Locale.forLanguageTag("es")
+    );
+
+    @Test
+    void test_noCrossRequestLeakage() throws Exception {
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(supportedLocales)
+            .redirectCache(new RedirectCache(16))
+            .build();
+        RequestURILocaleResolver localeResolver = new RequestURILocaleResolver();
+        localeResolver.setDefaultLocale(Locale.forLanguageTag("en"));
+
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            results.add(executor.submit(() -> {
+                int checked = 0;
+                for (int round = 0; round < ROUNDS; round++) {
+                    int index = (thread + round) % (supportedLocales.size() + 1);
+                    boolean redirect = index == supportedLocales.size();
+                    Locale expected = redirect ? null : supportedLocales.get(index);
+
+                    MockHttpServletRequest request = new MockHttpServletRequest();
+                    request.setAttribute(DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE, localeResolver);
+                    request.setRequestURI(
+                        redirect ? "/xx/" + thread + "/" + round : "/" + expected.toLanguageTag() + "/" + thread
+                    );
+                    request.setQueryString("round=" + round);
+                    MockHttpServletResponse response = new MockHttpServletResponse();
+
+                    boolean proceed = interceptor.preHandle(request, response, null);
+                    barrier.await(10, TimeUnit.SECONDS);
+
+                    if (redirect) {
+                        assertEquals(false, proceed);
+                        assertEquals("/en/" + thread + "/" + round + "?round=" + round, response.getRedirectedUrl());
+                    } else {
+                        assertEquals(true, proceed);
+                        assertEquals(expected, localeResolver.resolveLocale(request));
+                    }
+                    barrier.await(10, TimeUnit.SECONDS);
+                    checked++;
+                }
+                return checked;
+            }));
+        }
+
+        int checked = 0;
+        for (Future<Integer> result : results) {
+            checked += result.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(THREADS * ROUNDS, checked);
+    }
+
+    @Test
+    void test_reload_consistentSnapshot() throws Exception {
+        RequestURILocaleInterceptor.Builder english = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(List.of(Locale.forLanguageTag("en")));
+        RequestURILocaleInterceptor.Builder german = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("de"))
+            .supportedLocales(List.of(Locale.forLanguageTag("de")));
+        RequestURILocaleInterceptor interceptor = english.build();
+        RequestURILocaleResolver localeResolver = new RequestURILocaleResolver();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread reloader = new Thread(() -> {
+            for (int i = 0; running.get(); i++) {
+                interceptor.reload(i % 2 == 0 ? german : english);
+            }
+        });
+        reloader.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            results.add(executor.submit(() -> {
+                for (int round = 0; round < ROUNDS * 10; round++) {
+                    MockHttpServletRequest request = new MockHttpServletRequest();
+                    request.setAttribute(DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE, localeResolver);
+                    request.setRequestURI("/en/home");
+                    MockHttpServletResponse response = new MockHttpServletResponse();
+
+                    // Either the English snapshot matches, or the German
+                    // snapshot redirects to German. Never a mix of both.
+                    if (interceptor.preHandle(request, response, null)) {
+                        assertEquals(Locale.forLanguageTag("en"), localeResolver.resolveLocale(request));
+                    } else {
+                        assertEquals("/de/home", response.getRedirectedUrl());
+                    }
+                }
+                return null;
+            }));
+        }
+
+        try {
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            running.set(false);
+            reloader.join();
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextRegistry;
+import io.micrometer.context.ContextSnapshotFactory;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.i18n.SimpleLocaleContext;
+
+class RequestURILocaleContextAccessorTest {
+
+    RequestURILocaleContextAccessor accessor = new RequestURILocaleContextAccessor();
+
+    @AfterEach
+    void afterEach() {
+        LocaleContextHolder.resetLocaleContext();
+        ContextRegistry.getInstance().removeThreadLocalAccessor(RequestURILocaleContextAccessor.KEY);
+    }
+
+    static boolean isRegistered() {
+        return ContextRegistry.getInstance()
+            .getThreadLocalAccessors()
+            .stream()
+            .anyMatch(accessor -> RequestURILocaleContextAccessor.KEY.equals(accessor.key()));
+    }
+
+    @Test
+    void test_notRegisteredByDefault() {
+        assertFalse(isRegistered());
+    }
+
+    @Test
+    void test_getValue_snapshot() {
+        LocaleContextHolder.setLocaleContext(() -> Locale.forLanguageTag("de"));
+
+        LocaleContext localeContext = this.accessor.getValue();
+
+        assertInstanceOf(SimpleLocaleContext.class, localeContext);
+        assertEquals(Locale.forLanguageTag("de"), localeContext.getLocale());
+    }
+
+    @Test
+    void test_setValue() {
+        this.accessor.setValue(new SimpleLocaleContext(Locale.forLanguageTag("de")));
+        assertEquals(Locale.forLanguageTag("de"), LocaleContextHolder.getLocale());
+
+        this.accessor.setValue();
+        assertNull(LocaleContextHolder.getLocaleContext());
+    }
+
+    @Test
+    void test_contextExecutorService() throws ExecutionException, InterruptedException {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(this.accessor);
+        ExecutorService executor = ContextExecutorService.wrap(
+            Executors.newSingleThreadExecutor(),
+            ContextSnapshotFactory.builder().build()
+        );
+        try {
+            LocaleContextHolder.setLocale(Locale.forLanguageTag("de"));
+            assertEquals(Locale.forLanguageTag("de"), executor.submit(() -> LocaleContextHolder.getLocale()).get());
+
+            LocaleContextHolder.resetLocaleContext();
+            assertNull(executor.submit(LocaleContextHolder::getLocaleContext).get());
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+}
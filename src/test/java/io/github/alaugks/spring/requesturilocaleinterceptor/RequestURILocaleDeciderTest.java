@@ -0,0 +1,189 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.alaugks.spring.requesturilocaleinterceptor.RequestURILocaleDecision.Outcome;
+import io.github.alaugks.spring.requesturilocaleinterceptor.RequestURILocaleMetrics.RedirectReason;
+import io.github.alaugks.spring.requesturilocaleinterceptor.mocks.MockLocaleResolver;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.DispatcherServlet;
+
+class RequestURILocaleDeciderTest {
+
+    static RequestURILocaleInterceptor.Builder builder = RequestURILocaleInterceptor
+        .builder(Locale.forLanguageTag("en"))
+        .supportedLocales(List.of(
+            Locale.forLanguageTag("en"),
+            Locale.forLanguageTag("en-US"),
+            Locale.forLanguageTag("de")
+        ))
+        .defaultRequestURI("/%s/home")
+        .excludePaths(List.of("/static/**"))
+        .regionalFallback(true)
+        .canonicalRedirect(true)
+        .redirectGuard(RedirectGuard.builder().maxRequestURILength(64).build());
+    RequestURILocaleDecider decider = builder.build().decider();
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_decide")
+    void test_decide(String uri, Outcome outcome, String canonicalUri, RedirectReason redirectReason) {
+        RequestURILocaleDecision decision = this.decider.decide(uri);
+
+        assertEquals(outcome, decision.outcome());
+        assertEquals(canonicalUri, decision.canonicalUri());
+        assertEquals(redirectReason, decision.redirectReason());
+    }
+
+    private static Stream<Arguments> dataProvider_decide() {
+        return Stream.of(
+            // (String uri, Outcome outcome, String canonicalUri, RedirectReason redirectReason)
+            Arguments.of("/de/home", Outcome.LOCALIZED, "/de/home", null),
+            Arguments.of("/en-us/home?a=b", Outcome.LOCALIZED, "/en-us/home?a=b", null),
+            Arguments.of("/static/main.css", Outcome.EXCLUDED, "/static/main.css", null),
+            Arguments.of("/", Outcome.REDIRECT, "/en/home", RedirectReason.ROOT_PATH),
+            Arguments.of("/it/home?a=b", Outcome.REDIRECT, "/en/home?a=b", RedirectReason.UNSUPPORTED_LOCALE),
+            Arguments.of("/de-at/home", Outcome.REDIRECT, "/de/home", RedirectReason.FALLBACK_LOCALE),
+            Arguments.of("/en_US/home", Outcome.REDIRECT, "/en-us/home", RedirectReason.NON_CANONICAL_LOCALE),
+            Arguments.of("/it/" + "a".repeat(64), Outcome.REJECTED, null, null)
+        );
+    }
+
+    @Test
+    void test_decide_localized() {
+        RequestURILocaleDecision decision = this.decider.decide("/de/home", "a=b");
+
+        assertEquals(
+            new RequestURILocaleDecision(
+                "/de/home",
+                "a=b",
+                Outcome.LOCALIZED,
+                Locale.forLanguageTag("de"),
+                null,
+                null,
+                null
+            ),
+            decision
+        );
+    }
+
+    @Test
+    void test_decide_redirectStatus() {
+        assertEquals(HttpStatus.FOUND, this.decider.decide("/it/home").status());
+
+        RequestURILocaleDecider decider = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .redirectPolicy(RedirectPolicy.builder().status(HttpStatus.MOVED_PERMANENTLY).build())
+            .build()
+            .decider();
+
+        assertEquals(HttpStatus.MOVED_PERMANENTLY, decider.decide("/it/home").status());
+    }
+
+    @Test
+    void test_decide_rejected() {
+        RequestURILocaleDecision decision = this.decider.decide("/it/" + "a".repeat(64));
+
+        assertEquals(HttpStatus.BAD_REQUEST, decision.status());
+        assertNull(decision.location());
+    }
+
+    @Test
+    void test_decide_host() {
+        RequestURILocaleDecider decider = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .host(
+                "example.de",
+                RequestURILocaleInterceptor
+                    .builder(Locale.forLanguageTag("de"))
+                    .supportedLocales(List.of(Locale.forLanguageTag("de")))
+            )
+            .build()
+            .decider();
+
+        assertEquals("/en/home", decider.decide("/it/home").location());
+        assertEquals("/de/home", decider.decide("example.de", "/it/home", null).location());
+        assertEquals(
+            List.of("/de/home", "/de/about"),
+            decider.decideAll("EXAMPLE.DE", List.of("/de/home", "/en/about"))
+                .stream()
+                .map(RequestURILocaleDecision::canonicalUri)
+                .toList()
+        );
+    }
+
+    @Test
+    void test_decide_invalid() {
+        var e = assertThrows(IllegalArgumentException.class, () -> this.decider.decide("it/home"));
+
+        assertEquals("RequestURI must start with /: it/home", e.getMessage());
+    }
+
+    @Test
+    void test_decideAll_keepsOrder() {
+        List<String> uris = IntStream.range(0, 10_000)
+            .mapToObj(i -> (i % 2 == 0 ? "/de/" : "/it/") + i + "?page=" + i)
+            .toList();
+
+        List<RequestURILocaleDecision> decisions = this.decider.decideAll(uris);
+
+        assertEquals(uris.size(), decisions.size());
+        for (int i = 0; i < uris.size(); i++) {
+            assertEquals(
+                (i % 2 == 0 ? "/de/" : "/en/") + i + "?page=" + i,
+                decisions.get(i).canonicalUri()
+            );
+        }
+    }
+
+    @Test
+    void test_decideAll_stream() {
+        assertEquals(
+            List.of(Outcome.LOCALIZED, Outcome.EXCLUDED, Outcome.REDIRECT),
+            this.decider.decideAll(Stream.of("/en/home", "/static/main.css", "/it/home"))
+                .map(RequestURILocaleDecision::outcome)
+                .toList()
+        );
+    }
+
+    @Test
+    void test_decide_matchesInterceptor() {
+        RequestURILocaleInterceptor interceptor = builder.build();
+        List<String> uris = List.of("/", "/de/home", "/de-at/home", "/en_US/home", "/it/home/", "/it");
+
+        List<RequestURILocaleDecision> decisions = interceptor.decider().decideAll(uris);
+
+        for (int i = 0; i < uris.size(); i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setAttribute(DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE, new MockLocaleResolver());
+            request.setRequestURI(uris.get(i));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            interceptor.preHandle(request, response, null);
+
+            assertEquals(decisions.get(i).location(), response.getRedirectedUrl());
+        }
+    }
+
+    @Test
+    void test_decide_followsReload() {
+        RequestURILocaleInterceptor interceptor = builder.build();
+        RequestURILocaleDecider decider = interceptor.decider();
+        interceptor.reload(RequestURILocaleInterceptor.builder(Locale.forLanguageTag("de")));
+
+        assertEquals("/de/home", decider.decide("/en/home").location());
+    }
+}
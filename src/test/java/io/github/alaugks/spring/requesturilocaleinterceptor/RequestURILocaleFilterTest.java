@@ -0,0 +1,394 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.github.alaugks.spring.requesturilocaleinterceptor.mocks.MockLocaleResolver;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RestController;
+
+class RequestURILocaleFilterTest {
+
+    static List<Locale> supportedLocales = List.of(
+        Locale.forLanguageTag("en"),
+        Locale.forLanguageTag("en-US"),
+        Locale.forLanguageTag("de")
+    );
+    RequestURILocaleResolver localeResolver;
+    RequestURILocaleFilter filter;
+    MockHttpServletRequest mockRequest;
+    MockHttpServletResponse mockResponse;
+    MockFilterChain filterChain;
+
+    @BeforeEach
+    void beforeEach() {
+        this.localeResolver = new RequestURILocaleResolver();
+        this.filter = new RequestURILocaleFilter(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(supportedLocales)
+                .defaultRequestURI("/%s/home"),
+            this.localeResolver
+        );
+        this.mockRequest = new MockHttpServletRequest();
+        this.mockResponse = new MockHttpServletResponse();
+        this.filterChain = new MockFilterChain();
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_locale")
+    void test_locale(String requestUri, String expected) throws ServletException, IOException {
+        this.mockRequest.setRequestURI(requestUri);
+        this.filter.doFilter(this.mockRequest, this.mockResponse, this.filterChain);
+
+        assertNotNull(this.filterChain.getRequest());
+        assertNull(this.mockResponse.getRedirectedUrl());
+        assertEquals(expected, this.localeResolver.resolveLocale(this.mockRequest).toLanguageTag());
+    }
+
+    private static Stream<Arguments> dataProvider_locale() {
+        return Stream.of(
+            // (String requestUri, String expected)
+            Arguments.of("/en/home", "en"),
+            Arguments.of("/en-us/home/", "en-US"),
+            Arguments.of("/de", "de")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_redirect")
+    void test_redirect(String requestUri, String queryString, String expected) throws ServletException, IOException {
+        this.mockRequest.setRequestURI(requestUri);
+        this.mockRequest.setQueryString(queryString);
+        this.filter.doFilter(this.mockRequest, this.mockResponse, this.filterChain);
+
+        assertNull(this.filterChain.getRequest());
+        assertEquals(expected, this.mockResponse.getRedirectedUrl());
+    }
+
+    private static Stream<Arguments> dataProvider_redirect() {
+        return Stream.of(
+            // (String requestUri, String queryString, String expected)
+            Arguments.of("/it/home", null, "/en/home"),
+            Arguments.of("/it/home/", "a=b", "/en/home/?a=b"),
+            Arguments.of("/", null, "/en/home")
+        );
+    }
+
+    @Test
+    void test_alternateLinks() throws ServletException, IOException {
+        RequestURILocaleFilter filter = new RequestURILocaleFilter(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(List.of(Locale.forLanguageTag("en"), Locale.forLanguageTag("de")))
+                .alternateLinks(true),
+            this.localeResolver
+        );
+        this.mockRequest.setRequestURI("/de/products");
+        filter.doFilter(this.mockRequest, this.mockResponse, this.filterChain);
+
+        assertEquals(
+            "</en/products>; rel=\"alternate\"; hreflang=\"en\", "
+                + "</de/products>; rel=\"alternate\"; hreflang=\"de\", "
+                + "</en/products>; rel=\"alternate\"; hreflang=\"x-default\"",
+            this.mockResponse.getHeader(HttpHeaders.LINK)
+        );
+    }
+
+    @Test
+    void test_publishLocaleContext() throws ServletException, IOException {
+        RequestURILocaleFilter filter = new RequestURILocaleFilter(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(supportedLocales)
+                .publishLocaleContext(true),
+            this.localeResolver
+        );
+        this.mockRequest.setRequestURI("/de/home");
+        List<Locale> locales = new ArrayList<>();
+        filter.doFilter(
+            this.mockRequest,
+            this.mockResponse,
+            (request, response) -> locales.add(LocaleContextHolder.getLocaleContext().getLocale())
+        );
+
+        assertEquals(List.of(Locale.forLanguageTag("de")), locales);
+        assertNull(LocaleContextHolder.getLocaleContext());
+    }
+
+    @Test
+    void test_dispatcherType_error() throws ServletException, IOException {
+        this.mockRequest.setRequestURI("/error");
+        this.mockRequest.setDispatcherType(DispatcherType.ERROR);
+        this.filter.doFilter(this.mockRequest, this.mockResponse, this.filterChain);
+
+        assertNotNull(this.filterChain.getRequest());
+        assertNull(this.mockResponse.getRedirectedUrl());
+    }
+
+    @Test
+    void test_dispatcherTypes() throws ServletException, IOException {
+        RequestURILocaleFilter filter = new RequestURILocaleFilter(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(supportedLocales)
+                .dispatcherTypes(DispatcherType.REQUEST, DispatcherType.ERROR),
+            this.localeResolver
+        );
+        this.mockRequest.setRequestURI("/error");
+        this.mockRequest.setDispatcherType(DispatcherType.ERROR);
+        filter.doFilter(this.mockRequest, this.mockResponse, this.filterChain);
+
+        assertNull(this.filterChain.getRequest());
+        assertEquals("/en", this.mockResponse.getRedirectedUrl());
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_stripLocale")
+    void test_stripLocale(
+        String requestUri,
+        String servletPath,
+        String expectedPath,
+        String expectedServletPath,
+        String expectedUrl
+    ) throws ServletException, IOException {
+        RequestURILocaleFilter filter = new RequestURILocaleFilter(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(supportedLocales)
+                .stripLocale(true),
+            this.localeResolver
+        );
+        this.mockRequest.setRequestURI(requestUri);
+        this.mockRequest.setServletPath(servletPath);
+        this.mockRequest.setQueryString("a=b");
+        filter.doFilter(this.mockRequest, this.mockResponse, this.filterChain);
+
+        HttpServletRequest request = (HttpServletRequest) this.filterChain.getRequest();
+        assertEquals(expectedPath, request.getRequestURI());
+        assertEquals(expectedServletPath, request.getServletPath());
+        assertEquals(expectedUrl, request.getRequestURL().toString());
+        assertEquals("a=b", request.getQueryString());
+        assertEquals(expectedPath, request.getAttribute(RequestURILocaleInterceptor.PATH_ATTRIBUTE));
+        assertEquals(Locale.forLanguageTag("de"), request.getAttribute(RequestURILocaleInterceptor.LOCALE_ATTRIBUTE));
+        assertEquals(Locale.forLanguageTag("de"), this.localeResolver.resolveLocale(request));
+    }
+
+    private static Stream<Arguments> dataProvider_stripLocale() {
+        return Stream.of(
+            // (String requestUri, String servletPath, String expectedPath, String expectedServletPath, String expectedUrl)
+            Arguments.of("/de/products/1", "/de/products/1", "/products/1", "/products/1", "http://localhost/products/1"),
+            Arguments.of("/de/", "/de/", "/", "/", "http://localhost/"),
+            Arguments.of("/de", "/de", "/", "/", "http://localhost/"),
+            Arguments.of("/de/products", "", "/products", "", "http://localhost/products"),
+            Arguments.of("/de/products", "/dev", "/products", "/dev", "http://localhost/products")
+        );
+    }
+
+    @Test
+    void test_stripLocale_handlerMapping() throws Exception {
+        RequestURILocaleFilter filter = new RequestURILocaleFilter(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(supportedLocales)
+                .stripLocale(true),
+            this.localeResolver
+        );
+        MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new ProductController())
+            .addFilters(filter)
+            .setLocaleResolver(this.localeResolver)
+            .build();
+
+        mockMvc.perform(get("/de/products/1"))
+            .andExpect(status().isOk())
+            .andExpect(content().string("de /products/1 1"));
+        mockMvc.perform(get("/products/1"))
+            .andExpect(status().isFound())
+            .andExpect(redirectedUrl("/en/1"));
+    }
+
+    @Test
+    void test_stripLocale_contextPath() throws ServletException, IOException {
+        RequestURILocaleFilter filter = new RequestURILocaleFilter(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(supportedLocales)
+                .stripLocale(true),
+            this.localeResolver
+        );
+        this.mockRequest.setContextPath("/app");
+        this.mockRequest.setRequestURI("/app/de/products/1");
+        this.mockRequest.setServletPath("/de/products/1");
+        filter.doFilter(this.mockRequest, this.mockResponse, this.filterChain);
+
+        HttpServletRequest request = (HttpServletRequest) this.filterChain.getRequest();
+        assertEquals("/app", request.getContextPath());
+        assertEquals("/app/products/1", request.getRequestURI());
+        assertEquals("/products/1", request.getServletPath());
+        assertEquals("http://localhost/app/products/1", request.getRequestURL().toString());
+        assertEquals("/products/1", request.getAttribute(RequestURILocaleInterceptor.PATH_ATTRIBUTE));
+    }
+
+    @Test
+    void test_stripLocale_contextPath_handlerMapping() throws Exception {
+        RequestURILocaleFilter filter = new RequestURILocaleFilter(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(supportedLocales)
+                .stripLocale(true),
+            this.localeResolver
+        );
+        MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new ProductController())
+            .addFilters(filter)
+            .setLocaleResolver(this.localeResolver)
+            .build();
+
+        mockMvc.perform(get("/app/de/products/1").contextPath("/app"))
+            .andExpect(status().isOk())
+            .andExpect(content().string("de /products/1 1"));
+        mockMvc.perform(get("/app/products/1").contextPath("/app"))
+            .andExpect(status().isFound())
+            .andExpect(redirectedUrl("/app/en/1"));
+        mockMvc.perform(get("/app").contextPath("/app"))
+            .andExpect(status().isFound())
+            .andExpect(redirectedUrl("/app/en"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_pathWithinApplication")
+    void test_pathWithinApplication(String requestUri, String contextPath, String expected) {
+        assertEquals(expected, RequestURILocaleFilter.pathWithinApplication(requestUri, contextPath));
+    }
+
+    private static Stream<Arguments> dataProvider_pathWithinApplication() {
+        return Stream.of(
+            // (String requestUri, String contextPath, String expected)
+            Arguments.of("/de/products", "", "/de/products"),
+            Arguments.of("/app/de/products", "/app", "/de/products"),
+            Arguments.of("/app/", "/app", "/"),
+            Arguments.of("/app", "/app", "/")
+        );
+    }
+
+    @Test
+    void test_publishLocaleContext_dispatcherServlet() throws Exception {
+        RequestURILocaleFilter filter = new RequestURILocaleFilter(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(supportedLocales)
+                .publishLocaleContext(true),
+            this.localeResolver
+        );
+        MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new LocaleContextController())
+            .addFilters(filter)
+            .setLocaleResolver(this.localeResolver)
+            .build();
+
+        mockMvc.perform(get("/de/locale-context").header(HttpHeaders.ACCEPT_LANGUAGE, "it"))
+            .andExpect(status().isOk())
+            .andExpect(content().string("SimpleTimeZoneAwareLocaleContext de"));
+        assertNull(LocaleContextHolder.getLocaleContext());
+    }
+
+    @Test
+    void test_publishLocaleContext_disabled_dispatcherServlet() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new LocaleContextController())
+            .addFilters(this.filter)
+            .setLocaleResolver(this.localeResolver)
+            .build();
+
+        // Lazy context of the resolver
+        mockMvc.perform(get("/de/locale-context"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(Matchers.not(Matchers.startsWith("SimpleTimeZoneAwareLocaleContext"))))
+            .andExpect(content().string(Matchers.endsWith(" de")));
+    }
+
+    @RestController
+    static class LocaleContextController {
+
+        @GetMapping("/{locale}/locale-context")
+        String localeContext() {
+            LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+            return localeContext.getClass().getSimpleName() + " " + localeContext.getLocale().toLanguageTag();
+        }
+    }
+
+    @Test
+    void test_publishLocaleContext_localeResolver_invalid() {
+        var builder = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .publishLocaleContext(true);
+        var localeResolver = new MockLocaleResolver();
+        var e = assertThrows(IllegalArgumentException.class, () -> new RequestURILocaleFilter(builder, localeResolver));
+
+        assertEquals("Publishing the locale context requires a RequestURILocaleResolver", e.getMessage());
+    }
+
+    @RestController
+    static class ProductController {
+
+        @GetMapping("/products/{id}")
+        String product(
+            @PathVariable String id,
+            @RequestAttribute(RequestURILocaleInterceptor.PATH_ATTRIBUTE) String path,
+            Locale locale
+        ) {
+            return locale.toLanguageTag() + " " + path + " " + id;
+        }
+    }
+
+    @Test
+    void test_throw_RequestURILocaleInterceptorException() {
+        assertThrows(
+            RequestURILocaleInterceptorException.class,
+            () -> this.filter.doFilter(this.mockRequest, this.mockResponse, this.filterChain)
+        );
+    }
+
+    @Test
+    void test_localeResolver_isNull() {
+        var builder = RequestURILocaleInterceptor.builder(Locale.forLanguageTag("en"));
+        var e = assertThrows(IllegalArgumentException.class, () -> new RequestURILocaleFilter(builder, null));
+
+        assertEquals("LocaleResolver is null", e.getMessage());
+    }
+}
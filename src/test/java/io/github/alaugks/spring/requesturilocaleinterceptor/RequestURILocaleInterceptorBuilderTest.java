@@ -4,14 +4,20 @@
 package io.github.alaugks.spring.requesturilocaleinterceptor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import io.github.alaugks.spring.requesturilocaleinterceptor.mocks.MockLocaleResolver;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.servlet.DispatcherServlet;
@@ -74,4 +80,223 @@ class RequestURILocaleInterceptorBuilderTest {
             assertEquals("Default locale is empty", e.getMessage());
         }
     }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_host")
+    void test_host(String serverName, String requestUri, String expectedLocale, String expectedRedirect) {
+        this.mockRequest.setServerName(serverName);
+        this.mockRequest.setRequestURI(requestUri);
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(defaultLocal)
+            .supportedLocales(supportedLocales)
+            .host(
+                "shop.ch",
+                RequestURILocaleInterceptor
+                    .builder(Locale.forLanguageTag("de"))
+                    .supportedLocales(List.of(
+                        Locale.forLanguageTag("de"),
+                        Locale.forLanguageTag("fr"),
+                        Locale.forLanguageTag("it")
+                    ))
+                    .defaultRequestURI("/%s/start")
+            )
+            .host(
+                "shop.at",
+                RequestURILocaleInterceptor
+                    .builder(Locale.forLanguageTag("de"))
+                    .supportedLocales(List.of(Locale.forLanguageTag("de")))
+            )
+            .build();
+        interceptor.preHandle(this.mockRequest, this.mockedResponse, null);
+
+        assertEquals(expectedRedirect, this.mockedResponse.getRedirectedUrl());
+        if (expectedLocale != null) {
+            assertEquals(expectedLocale, this.mockLocaleResolver.resolveLocale(this.mockRequest).toLanguageTag());
+        }
+    }
+
+    private static Stream<Arguments> dataProvider_host() {
+        return Stream.of(
+            // (String serverName, String requestUri, String expectedLocale, String expectedRedirect)
+            Arguments.of("shop.ch", "/it/home", "it", null),
+            Arguments.of("SHOP.CH", "/fr/home", "fr", null),
+            Arguments.of("shop.ch", "/en/home", null, "/de/home"),
+            Arguments.of("shop.ch", "/", null, "/de/start"),
+            Arguments.of("shop.at", "/it/home", null, "/de/home"),
+            Arguments.of("shop.at", "/", null, "/de"),
+            Arguments.of("shop.com", "/en/home", "en", null),
+            Arguments.of("shop.com", "/it/home", null, "/en/home")
+        );
+    }
+
+    @Test
+    void test_host_nestedHosts() {
+        var hostBuilder = RequestURILocaleInterceptor
+            .builder(defaultLocal)
+            .host("shop.at", RequestURILocaleInterceptor.builder(defaultLocal));
+        var builder = RequestURILocaleInterceptor.builder(defaultLocal);
+
+        var e = assertThrows(IllegalArgumentException.class, () -> builder.host("shop.ch", hostBuilder));
+        assertEquals("Builder of host shop.ch defines hosts", e.getMessage());
+    }
+
+    @Test
+    void test_host_defaultLocale_isEmpty() {
+        var builder = RequestURILocaleInterceptor
+            .builder(defaultLocal)
+            .host("shop.ch", RequestURILocaleInterceptor.builder(Locale.forLanguageTag("")));
+
+        var e = assertThrows(IllegalArgumentException.class, builder::build);
+        assertEquals("Default locale is empty", e.getMessage());
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_excludePaths")
+    void test_excludePaths(String serverName, String requestUri, boolean expectedProceed, String expectedRedirect) {
+        this.mockRequest.setServerName(serverName);
+        this.mockRequest.setRequestURI(requestUri);
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(defaultLocal)
+            .supportedLocales(supportedLocales)
+            .excludePaths(List.of("/static/**", "/actuator/**"))
+            .host(
+                "shop.ch",
+                RequestURILocaleInterceptor
+                    .builder(Locale.forLanguageTag("de"))
+                    .supportedLocales(List.of(Locale.forLanguageTag("de")))
+            )
+            .build();
+
+        assertEquals(expectedProceed, interceptor.preHandle(this.mockRequest, this.mockedResponse, null));
+        assertEquals(expectedRedirect, this.mockedResponse.getRedirectedUrl());
+        if (expectedProceed) {
+            assertThrows(NullPointerException.class, () -> this.mockLocaleResolver.resolveLocale(this.mockRequest));
+        }
+    }
+
+    private static Stream<Arguments> dataProvider_excludePaths() {
+        return Stream.of(
+            // (String serverName, String requestUri, boolean expectedProceed, String expectedRedirect)
+            Arguments.of("localhost", "/static/main.css", true, null),
+            Arguments.of("localhost", "/actuator", true, null),
+            Arguments.of("shop.ch", "/actuator/health", true, null),
+            Arguments.of("localhost", "/staticfiles", false, "/en"),
+            Arguments.of("shop.ch", "/en/static", false, "/de/static")
+        );
+    }
+
+    @Test
+    void test_excludePaths_invalid() {
+        var builder = RequestURILocaleInterceptor
+            .builder(defaultLocal)
+            .excludePaths(List.of("static/**"));
+
+        var e = assertThrows(IllegalArgumentException.class, builder::build);
+        assertEquals("Exclude path must start with /: static/**", e.getMessage());
+    }
+
+    @Test
+    void test_fallback_isNull() {
+        var builder = RequestURILocaleInterceptor.builder(defaultLocal);
+
+        var e = assertThrows(
+            IllegalArgumentException.class,
+            () -> builder.fallback(Locale.forLanguageTag("gsw"), null)
+        );
+        assertEquals("Fallback locale of gsw is null", e.getMessage());
+    }
+
+    @Test
+    void test_alternateLinksCache_invalid() {
+        var builder = RequestURILocaleInterceptor.builder(defaultLocal);
+
+        var e = assertThrows(IllegalArgumentException.class, () -> builder.alternateLinksCache(0));
+        assertEquals("Maximum size must be greater than 0", e.getMessage());
+    }
+
+    @Test
+    void test_alternateLinksOrigin_isEmpty() {
+        var builder = RequestURILocaleInterceptor.builder(defaultLocal);
+
+        var e = assertThrows(IllegalArgumentException.class, () -> builder.alternateLinksOrigin(" "));
+        assertEquals("Origin is empty", e.getMessage());
+    }
+
+    @Test
+    void test_dispatcherTypes_isEmpty() {
+        var builder = RequestURILocaleInterceptor.builder(defaultLocal);
+
+        var e = assertThrows(IllegalArgumentException.class, () -> builder.dispatcherTypes());
+        assertEquals("Dispatcher types are empty", e.getMessage());
+    }
+
+    @Test
+    void test_supportedLocales_notDefined_defaultLocaleSupported() {
+        this.mockRequest.setRequestURI("/en/home");
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(defaultLocal)
+            .build();
+
+        assertTrue(interceptor.preHandle(this.mockRequest, this.mockedResponse, null));
+        assertEquals(defaultLocal, this.mockLocaleResolver.resolveLocale(this.mockRequest));
+    }
+
+    @Test
+    void test_defaultLocale_notSupported() {
+        var builder = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("fr"))
+            .supportedLocales(supportedLocales);
+
+        var e = assertThrows(IllegalArgumentException.class, builder::build);
+        assertEquals("Default locale is not a supported locale: fr", e.getMessage());
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_defaultRequestURI_invalid")
+    void test_defaultRequestURI_invalid(String defaultRequestUri, boolean canonicalRedirect, String expected) {
+        var builder = RequestURILocaleInterceptor
+            .builder(defaultLocal)
+            .supportedLocales(supportedLocales)
+            .defaultRequestURI(defaultRequestUri)
+            .canonicalRedirect(canonicalRedirect);
+
+        var e = assertThrows(IllegalArgumentException.class, builder::build);
+        assertEquals(expected, e.getMessage());
+    }
+
+    private static Stream<Arguments> dataProvider_defaultRequestURI_invalid() {
+        return Stream.of(
+            // (String defaultRequestUri, boolean canonicalRedirect, String expected)
+            Arguments.of("/home", false, "Default RequestURI does not start with a supported locale: /home"),
+            Arguments.of("/fr/home", false, "Default RequestURI does not start with a supported locale: /fr/home"),
+            Arguments.of("/%s-x/home", false, "Default RequestURI does not start with a supported locale: /en-x/home"),
+            Arguments.of("/EN/home", true, "Default RequestURI does not start with a supported locale: /EN/home"),
+            Arguments.of("home", false, "Default RequestURI must start with /: home")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_defaultRequestURI_valid")
+    void test_defaultRequestURI_valid(String defaultRequestUri, String expected) {
+        this.mockRequest.setRequestURI("/");
+        RequestURILocaleInterceptor
+            .builder(defaultLocal)
+            .supportedLocales(supportedLocales)
+            .defaultRequestURI(defaultRequestUri)
+            .excludePaths(List.of("/static/**"))
+            .build()
+            .preHandle(this.mockRequest, this.mockedResponse, null);
+
+        assertEquals(expected, this.mockedResponse.getRedirectedUrl());
+    }
+
+    private static Stream<Arguments> dataProvider_defaultRequestURI_valid() {
+        return Stream.of(
+            // (String defaultRequestUri, String expected)
+            Arguments.of("/%s/home", "/en/home"),
+            Arguments.of("/EN/home", "/EN/home"),
+            Arguments.of("/en?a=b", "/en?a=b"),
+            Arguments.of("/static/index.html", "/static/index.html")
+        );
+    }
 }
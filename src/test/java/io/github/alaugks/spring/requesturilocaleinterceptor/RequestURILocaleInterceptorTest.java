@@ -4,10 +4,19 @@
 package io.github.alaugks.spring.requesturilocaleinterceptor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import io.github.alaugks.spring.requesturilocaleinterceptor.mocks.MockLocaleResolver;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
@@ -18,8 +27,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.DispatcherServlet;
 
 class RequestURILocaleInterceptorTest {
@@ -92,7 +108,11 @@ class RequestURILocaleInterceptorTest {
             Arguments.of("/it/", "en", "/en/home", "/en/home"),
             Arguments.of("/", "en", "/%s/home", "/en/home"),
             Arguments.of("/", "en", "/%s/home/", "/en/home/"),
-            Arguments.of("/", "en", null, "/en")
+            Arguments.of("/", "en", null, "/en"),
+            Arguments.of("/it/home//", "en", "/en/home", "/en/home/"),
+            Arguments.of("/it//home", "en", "/en/home", "/en//home"),
+            Arguments.of("//home", "en", "/en/home", "/en/home"),
+            Arguments.of("/it/some%20path", "en", "/en/home", "/en/some%20path")
         );
     }
 
@@ -123,6 +143,445 @@ class RequestURILocaleInterceptorTest {
         );
     }
 
+    @ParameterizedTest
+    @MethodSource("dataProvider_queryString")
+    void test_redirect_queryString(String queryString, String expected) {
+        this.mockRequest.setRequestURI("/it/home");
+        this.mockRequest.setQueryString(queryString);
+        this.initUrlLocaleInterceptor(Locale.forLanguageTag("en"), "/en/home");
+
+        assertEquals(expected, this.mockedResponse.getRedirectedUrl());
+    }
+
+    private static Stream<Arguments> dataProvider_queryString() {
+        return Stream.of(
+            // (String queryString, String expected)
+            Arguments.of(null, "/en/home"),
+            Arguments.of("", "/en/home"),
+            Arguments.of("a=b", "/en/home?a=b"),
+            Arguments.of("q=foo%20bar&x=%C3%A4", "/en/home?q=foo%20bar&x=%C3%A4")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_acceptLanguage")
+    void test_redirect_acceptLanguage(String requestUri, String acceptLanguage, String expected) {
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(supportedLocales)
+            .defaultRequestURI("/%s/home")
+            .acceptLanguageRedirect(true)
+            .redirectCache(new RedirectCache(10))
+            .build();
+        this.mockRequest.setRequestURI(requestUri);
+        if (acceptLanguage != null) {
+            this.mockRequest.addHeader("Accept-Language", acceptLanguage);
+        }
+        interceptor.preHandle(this.mockRequest, this.mockedResponse, null);
+
+        assertEquals(expected, this.mockedResponse.getRedirectedUrl());
+    }
+
+    private static Stream<Arguments> dataProvider_acceptLanguage() {
+        return Stream.of(
+            // (String requestUri, String acceptLanguage, String expected)
+            Arguments.of("/", "de-CH,de;q=0.9,en;q=0.8", "/de/home"),
+            Arguments.of("/it/products", "de", "/de/products"),
+            Arguments.of("/it/products", "en-US,en;q=0.5", "/en-us/products"),
+            Arguments.of("/it/products", "fr;q=0.9,en;q=0.1", "/en/products"),
+            Arguments.of("/it/products", "fr", "/en/products"),
+            Arguments.of("/it/products", "*", "/en/products"),
+            Arguments.of("/it/products", "invalid;;q=x", "/en/products"),
+            Arguments.of("/it/products", "", "/en/products"),
+            Arguments.of("/it/products", null, "/en/products"),
+            Arguments.of("/de/products", "en", null)
+        );
+    }
+
+    @Test
+    void test_redirect_acceptLanguage_disabled() {
+        this.mockRequest.setRequestURI("/it/products");
+        this.mockRequest.addHeader("Accept-Language", "de");
+        this.initUrlLocaleInterceptor(Locale.forLanguageTag("en"), null);
+
+        assertEquals("/en/products", this.mockedResponse.getRedirectedUrl());
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_regionalFallback")
+    void test_redirect_regionalFallback(String requestUri, String expected) {
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(supportedLocales)
+            .defaultRequestURI("/%s/home")
+            .regionalFallback(true)
+            .fallback(Locale.forLanguageTag("gsw"), Locale.forLanguageTag("de-CH"))
+            .redirectCache(new RedirectCache(10))
+            .build();
+        this.mockRequest.setRequestURI(requestUri);
+        this.mockRequest.setQueryString("a=b");
+        interceptor.preHandle(this.mockRequest, this.mockedResponse, null);
+
+        assertEquals(expected, this.mockedResponse.getRedirectedUrl());
+    }
+
+    private static Stream<Arguments> dataProvider_regionalFallback() {
+        return Stream.of(
+            // (String requestUri, String expected)
+            Arguments.of("/de-at/products", "/de/products?a=b"),
+            Arguments.of("/de-AT/products", "/de/products?a=b"),
+            Arguments.of("/de-at", "/de/home?a=b"),
+            Arguments.of("/en-gb/products", "/en/products?a=b"),
+            Arguments.of("/gsw/products", "/de/products?a=b"),
+            Arguments.of("/fr-fr/products", "/en/products?a=b"),
+            Arguments.of("/wp-admin", "/en/home?a=b"),
+            Arguments.of("/", "/en/home?a=b"),
+            Arguments.of("/de/products", null)
+        );
+    }
+
+    @Test
+    void test_redirect_regionalFallback_hosts() {
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(supportedLocales)
+            .regionalFallback(true)
+            .host(
+                "example.de",
+                RequestURILocaleInterceptor
+                    .builder(Locale.forLanguageTag("de"))
+                    .supportedLocales(List.of(Locale.forLanguageTag("de"), Locale.forLanguageTag("pt")))
+            )
+            .build();
+        this.mockRequest.setServerName("example.de");
+        this.mockRequest.setRequestURI("/pt-br/products");
+        interceptor.preHandle(this.mockRequest, this.mockedResponse, null);
+
+        assertEquals("/pt/products", this.mockedResponse.getRedirectedUrl());
+    }
+
+    @Test
+    void test_redirect_regionalFallback_disabled() {
+        this.mockRequest.setRequestURI("/de-at/products");
+        this.initUrlLocaleInterceptor(Locale.forLanguageTag("en"), null);
+
+        assertEquals("/en/products", this.mockedResponse.getRedirectedUrl());
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_canonicalRedirect")
+    void test_redirect_canonicalRedirect(String requestUri, String expectedLocale, String expectedRedirect) {
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(List.of(
+                Locale.forLanguageTag("en"),
+                Locale.forLanguageTag("en-US"),
+                Locale.forLanguageTag("he"),
+                Locale.forLanguageTag("zh-Hant-TW")
+            ))
+            .defaultRequestURI("/%s/home")
+            .canonicalRedirect(true)
+            .regionalFallback(true)
+            .redirectCache(new RedirectCache(10))
+            .build();
+        this.mockRequest.setRequestURI(requestUri);
+        boolean proceed = interceptor.preHandle(this.mockRequest, this.mockedResponse, null);
+
+        assertEquals(expectedRedirect == null, proceed);
+        assertEquals(expectedRedirect, this.mockedResponse.getRedirectedUrl());
+        if (expectedLocale != null) {
+            assertEquals(Locale.forLanguageTag(expectedLocale), this.mockLocaleResolver.resolveLocale(this.mockRequest));
+        }
+    }
+
+    private static Stream<Arguments> dataProvider_canonicalRedirect() {
+        return Stream.of(
+            // (String requestUri, String expectedLocale, String expectedRedirect)
+            Arguments.of("/en/products", "en", null),
+            Arguments.of("/en-us/products", "en-US", null),
+            Arguments.of("/zh-hant-tw/products", "zh-Hant-TW", null),
+            Arguments.of("/EN/products", null, "/en/products"),
+            Arguments.of("/En", null, "/en"),
+            Arguments.of("/en-US/products/", null, "/en-us/products/"),
+            Arguments.of("/en_us/products", null, "/en-us/products"),
+            Arguments.of("/EN_US/products", null, "/en-us/products"),
+            Arguments.of("/iw/products", null, "/he/products"),
+            Arguments.of("/zh_Hant_TW/products", null, "/zh-hant-tw/products"),
+            Arguments.of("/en-gb/products", null, "/en/products"),
+            Arguments.of("/it/products", null, "/en/products"),
+            Arguments.of("/", null, "/en/home")
+        );
+    }
+
+    @Test
+    void test_redirect_canonicalRedirect_disabled() {
+        this.mockRequest.setRequestURI("/EN-us/products");
+        this.initUrlLocaleInterceptor(Locale.forLanguageTag("en"), null);
+
+        assertNull(this.mockedResponse.getRedirectedUrl());
+        assertEquals(Locale.forLanguageTag("en-US"), this.mockLocaleResolver.resolveLocale(this.mockRequest));
+    }
+
+    @Test
+    void test_redirect_scriptLocale() {
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("zh-Hant-TW"))
+            .supportedLocales(List.of(Locale.forLanguageTag("zh-Hant-TW")))
+            .build();
+        this.mockRequest.setRequestURI("/it/products");
+        interceptor.preHandle(this.mockRequest, this.mockedResponse, null);
+
+        assertEquals("/zh-hant-tw/products", this.mockedResponse.getRedirectedUrl());
+    }
+
+    @Test
+    void test_alternateLinks() {
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(supportedLocales)
+            .alternateLinks(true)
+            .alternateLinksCache(10)
+            .alternateLinksOrigin("https://example.com/")
+            .host(
+                "example.de",
+                RequestURILocaleInterceptor
+                    .builder(Locale.forLanguageTag("de"))
+                    .supportedLocales(List.of(Locale.forLanguageTag("de")))
+                    .alternateLinksOrigin("https://example.de")
+            )
+            .build();
+        this.mockRequest.setRequestURI("/de/products");
+        this.mockRequest.setQueryString("a=b");
+        interceptor.preHandle(this.mockRequest, this.mockedResponse, null);
+
+        assertEquals(
+            "<https://example.com/en/products>; rel=\"alternate\"; hreflang=\"en\", "
+                + "<https://example.com/en-us/products>; rel=\"alternate\"; hreflang=\"en-US\", "
+                + "<https://example.com/de/products>; rel=\"alternate\"; hreflang=\"de\", "
+                + "<https://example.com/en/products>; rel=\"alternate\"; hreflang=\"x-default\"",
+            this.mockedResponse.getHeader("Link")
+        );
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        this.mockRequest.setServerName("example.de");
+        interceptor.preHandle(this.mockRequest, response, null);
+
+        assertEquals(
+            "<https://example.de/de/products>; rel=\"alternate\"; hreflang=\"de\", "
+                + "<https://example.de/de/products>; rel=\"alternate\"; hreflang=\"x-default\"",
+            response.getHeader("Link")
+        );
+    }
+
+    @Test
+    void test_alternateLinks_redirect() {
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(supportedLocales)
+            .alternateLinks(true)
+            .build();
+        this.mockRequest.setRequestURI("/it/products");
+        interceptor.preHandle(this.mockRequest, this.mockedResponse, null);
+
+        assertEquals("/en/products", this.mockedResponse.getRedirectedUrl());
+        assertNull(this.mockedResponse.getHeader("Link"));
+    }
+
+    @Test
+    void test_alternateLinks_disabled() {
+        this.mockRequest.setRequestURI("/de/products");
+        this.initUrlLocaleInterceptor(Locale.forLanguageTag("en"), null);
+
+        assertNull(this.mockedResponse.getHeader("Link"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_stripLocale")
+    void test_stripLocale(String requestUri, String expectedPath) {
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(supportedLocales)
+            .stripLocale(true)
+            .build();
+        this.mockRequest.setRequestURI(requestUri);
+
+        assertTrue(interceptor.preHandle(this.mockRequest, this.mockedResponse, null));
+        assertEquals(expectedPath, this.mockRequest.getAttribute(RequestURILocaleInterceptor.PATH_ATTRIBUTE));
+        assertEquals(
+            Locale.forLanguageTag("en-US"),
+            this.mockRequest.getAttribute(RequestURILocaleInterceptor.LOCALE_ATTRIBUTE)
+        );
+        assertEquals(requestUri, this.mockRequest.getRequestURI());
+    }
+
+    private static Stream<Arguments> dataProvider_stripLocale() {
+        return Stream.of(
+            // (String requestUri, String expectedPath)
+            Arguments.of("/en-us/products/1", "/products/1"),
+            Arguments.of("/en-US/products/", "/products/"),
+            Arguments.of("/en-us/", "/"),
+            Arguments.of("/en-us", "/")
+        );
+    }
+
+    @Test
+    void test_stripLocale_disabled() {
+        this.mockRequest.setRequestURI("/en/products");
+        this.initUrlLocaleInterceptor(Locale.forLanguageTag("en"), null);
+
+        assertNull(this.mockRequest.getAttribute(RequestURILocaleInterceptor.PATH_ATTRIBUTE));
+        assertNull(this.mockRequest.getAttribute(RequestURILocaleInterceptor.LOCALE_ATTRIBUTE));
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_dispatcherType")
+    void test_dispatcherType(DispatcherType dispatcherType) {
+        RequestURILocaleResolver localeResolver = new RequestURILocaleResolver();
+        this.mockRequest.setAttribute(DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE, localeResolver);
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(supportedLocales)
+            .build();
+        this.mockRequest.setRequestURI("/de/home");
+        interceptor.preHandle(this.mockRequest, this.mockedResponse, null);
+
+        this.mockRequest.setRequestURI("/error");
+        this.mockRequest.setDispatcherType(dispatcherType);
+
+        assertTrue(interceptor.preHandle(this.mockRequest, this.mockedResponse, null));
+        assertNull(this.mockedResponse.getRedirectedUrl());
+        assertEquals(Locale.forLanguageTag("de"), localeResolver.resolveLocale(this.mockRequest));
+    }
+
+    private static Stream<Arguments> dataProvider_dispatcherType() {
+        return Stream.of(
+            // (DispatcherType dispatcherType)
+            Arguments.of(DispatcherType.ERROR),
+            Arguments.of(DispatcherType.ASYNC),
+            Arguments.of(DispatcherType.FORWARD),
+            Arguments.of(DispatcherType.INCLUDE)
+        );
+    }
+
+    @Test
+    void test_publishLocaleContext() {
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(supportedLocales)
+            .publishLocaleContext(true)
+            .build();
+        this.mockRequest.setRequestURI("/de/home");
+        try {
+            interceptor.preHandle(this.mockRequest, this.mockedResponse, null);
+
+            assertEquals(Locale.forLanguageTag("de"), LocaleContextHolder.getLocaleContext().getLocale());
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
+    }
+
+    @Test
+    void test_publishLocaleContext_dispatcherServlet() throws Exception {
+        RequestURILocaleResolver localeResolver = new RequestURILocaleResolver();
+        MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new LocaleContextController(localeResolver))
+            .addInterceptors(
+                RequestURILocaleInterceptor
+                    .builder(Locale.forLanguageTag("en"))
+                    .supportedLocales(supportedLocales)
+                    .publishLocaleContext(true)
+                    .build()
+            )
+            .setLocaleResolver(localeResolver)
+            .build();
+
+        mockMvc.perform(get("/de/locale-context").header(HttpHeaders.ACCEPT_LANGUAGE, "it"))
+            .andExpect(status().isOk())
+            .andExpect(content().string("SimpleTimeZoneAwareLocaleContext de true"));
+        assertNull(LocaleContextHolder.getLocaleContext());
+    }
+
+    @RestController
+    static class LocaleContextController {
+
+        private final RequestURILocaleResolver localeResolver;
+
+        LocaleContextController(RequestURILocaleResolver localeResolver) {
+            this.localeResolver = localeResolver;
+        }
+
+        @GetMapping("/{locale}/locale-context")
+        String localeContext(HttpServletRequest request) {
+            LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+            return localeContext.getClass().getSimpleName()
+                + " " + localeContext.getLocale().toLanguageTag()
+                + " " + (localeContext == this.localeResolver.resolveLocaleContext(request));
+        }
+    }
+
+    @Test
+    void test_publishLocaleContext_disabled() {
+        this.mockRequest.setRequestURI("/de/home");
+        this.initUrlLocaleInterceptor(Locale.forLanguageTag("en"), null);
+
+        assertNull(LocaleContextHolder.getLocaleContext());
+    }
+
+    @Test
+    void test_dispatcherTypes() {
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(supportedLocales)
+            .dispatcherTypes(DispatcherType.REQUEST, DispatcherType.ERROR)
+            .build();
+        this.mockRequest.setRequestURI("/error");
+        this.mockRequest.setDispatcherType(DispatcherType.ERROR);
+
+        assertFalse(interceptor.preHandle(this.mockRequest, this.mockedResponse, null));
+        assertEquals("/en", this.mockedResponse.getRedirectedUrl());
+    }
+
+    @Test
+    void test_reload() {
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(supportedLocales)
+            .build();
+        this.mockRequest.setRequestURI("/it/home");
+
+        interceptor.reload(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("it"))
+                .supportedLocales(List.of(Locale.forLanguageTag("it"), Locale.forLanguageTag("de")))
+                .defaultRequestURI("/%s/start")
+        );
+
+        assertTrue(interceptor.preHandle(this.mockRequest, this.mockedResponse, null));
+        assertEquals("it", this.mockLocaleResolver.resolveLocale(this.mockRequest).getLanguage());
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE, this.mockLocaleResolver);
+        request.setRequestURI("/en/home");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(request, response, null));
+        assertEquals("/it/home", response.getRedirectedUrl());
+    }
+
+    @Test
+    void test_reload_invalid() {
+        RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(supportedLocales)
+            .build();
+        var builder = RequestURILocaleInterceptor.builder(Locale.forLanguageTag(""));
+
+        assertThrows(IllegalArgumentException.class, () -> interceptor.reload(builder));
+
+        this.mockRequest.setRequestURI("/en/home");
+        assertTrue(interceptor.preHandle(this.mockRequest, this.mockedResponse, null));
+    }
+
     @Test
     void test_throw_RequestURILocaleInterceptorException() {
         RequestURILocaleInterceptor interceptor = RequestURILocaleInterceptor
@@ -0,0 +1,126 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+class RequestURILocaleLinkBuilderTest {
+
+    static RequestURILocaleInterceptor.Builder builder = RequestURILocaleInterceptor
+        .builder(Locale.forLanguageTag("en"))
+        .supportedLocales(List.of(
+            Locale.forLanguageTag("en"),
+            Locale.forLanguageTag("en-US"),
+            Locale.forLanguageTag("de")
+        ));
+    RequestURILocaleLinkBuilder linkBuilder = builder.build().linkBuilder();
+
+    @AfterEach
+    void afterEach() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_link")
+    void test_link(String locale, String path, String expected) {
+        assertEquals(expected, this.linkBuilder.link(Locale.forLanguageTag(locale), path));
+    }
+
+    private static Stream<Arguments> dataProvider_link() {
+        return Stream.of(
+            // (String locale, String path, String expected)
+            Arguments.of("de", "/products", "/de/products"),
+            Arguments.of("en-US", "/products?a=b", "/en-us/products?a=b"),
+            Arguments.of("de", "products", "/de/products"),
+            Arguments.of("de", "/", "/de/"),
+            Arguments.of("de", "", "/de"),
+            Arguments.of("de", null, "/de"),
+            Arguments.of("it", "/products", "/en/products")
+        );
+    }
+
+    @Test
+    void test_link_currentLocale() {
+        LocaleContextHolder.setLocale(Locale.forLanguageTag("en-US"));
+
+        assertEquals("/en-us/products", this.linkBuilder.link("/products"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_switchLocale")
+    void test_switchLocale(String requestUri, String locale, String expected) {
+        assertEquals(expected, this.linkBuilder.switchLocale(requestUri, Locale.forLanguageTag(locale)));
+    }
+
+    private static Stream<Arguments> dataProvider_switchLocale() {
+        return Stream.of(
+            // (String requestUri, String locale, String expected)
+            Arguments.of("/en/products/1", "de", "/de/products/1"),
+            Arguments.of("/EN-us/products", "de", "/de/products"),
+            Arguments.of("/de/", "en-US", "/en-us/"),
+            Arguments.of("/de", "en", "/en"),
+            Arguments.of("/products", "de", "/de/products"),
+            Arguments.of("/", "de", "/de/"),
+            Arguments.of("/en/products", "it", "/en/products"),
+            Arguments.of("/en_US/products", "de", "/de/en_US/products")
+        );
+    }
+
+    @Test
+    void test_switchLocale_canonicalRedirect() {
+        RequestURILocaleLinkBuilder linkBuilder = RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("de"))
+            .supportedLocales(List.of(Locale.forLanguageTag("en-US"), Locale.forLanguageTag("de")))
+            .canonicalRedirect(true)
+            .build()
+            .linkBuilder();
+
+        assertEquals("/de/products", linkBuilder.switchLocale("/en_US/products", Locale.forLanguageTag("de")));
+    }
+
+    @Test
+    void test_prefix() {
+        String prefix = this.linkBuilder.prefix(Locale.forLanguageTag("en-US"));
+
+        assertEquals("/en-us", prefix);
+        assertSame(prefix, this.linkBuilder.prefix(Locale.forLanguageTag("en-US")));
+    }
+
+    @Test
+    void test_reload() {
+        RequestURILocaleInterceptor interceptor = builder.build();
+        RequestURILocaleLinkBuilder linkBuilder = interceptor.linkBuilder();
+        interceptor.reload(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("fr"))
+                .supportedLocales(List.of(Locale.forLanguageTag("fr")))
+        );
+
+        assertEquals("/fr/products", linkBuilder.link(Locale.forLanguageTag("de"), "/products"));
+    }
+
+    @Test
+    void test_spel() {
+        StandardEvaluationContext context = new StandardEvaluationContext(this.linkBuilder);
+        context.setVariable("locale", Locale.forLanguageTag("de"));
+
+        assertEquals(
+            "/de/products",
+            new SpelExpressionParser().parseExpression("link(#locale, '/products')").getValue(context)
+        );
+    }
+}
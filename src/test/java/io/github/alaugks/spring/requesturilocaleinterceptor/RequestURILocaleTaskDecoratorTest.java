@@ -0,0 +1,119 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.i18n.SimpleLocaleContext;
+import org.springframework.context.i18n.SimpleTimeZoneAwareLocaleContext;
+import org.springframework.context.i18n.TimeZoneAwareLocaleContext;
+
+class RequestURILocaleTaskDecoratorTest {
+
+    RequestURILocaleTaskDecorator taskDecorator = new RequestURILocaleTaskDecorator();
+    ExecutorService executor;
+
+    @BeforeEach
+    void beforeEach() {
+        this.executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        LocaleContextHolder.resetLocaleContext();
+        this.executor.shutdown();
+        this.executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    LocaleContext localeContextOfWorker() throws ExecutionException, InterruptedException {
+        return this.executor.submit(LocaleContextHolder::getLocaleContext).get();
+    }
+
+    @Test
+    void test_decorate() throws ExecutionException, InterruptedException {
+        LocaleContextHolder.setLocale(Locale.forLanguageTag("de"));
+        Runnable task = this.taskDecorator.decorate(
+            () -> assertEquals(Locale.forLanguageTag("de"), LocaleContextHolder.getLocale())
+        );
+        LocaleContextHolder.setLocale(Locale.forLanguageTag("it"));
+
+        this.executor.submit(task).get();
+
+        assertNull(this.localeContextOfWorker());
+    }
+
+    @Test
+    void test_decorate_exception() throws ExecutionException, InterruptedException {
+        LocaleContextHolder.setLocale(Locale.forLanguageTag("de"));
+        Runnable task = this.taskDecorator.decorate(() -> {
+            throw new IllegalStateException();
+        });
+
+        assertThrows(ExecutionException.class, () -> this.executor.submit(task).get());
+        assertNull(this.localeContextOfWorker());
+    }
+
+    @Test
+    void test_decorate_resolvesOnce() throws ExecutionException, InterruptedException {
+        AtomicInteger resolved = new AtomicInteger();
+        LocaleContextHolder.setLocaleContext(() -> {
+            resolved.incrementAndGet();
+            return Locale.forLanguageTag("de");
+        });
+        Runnable task = this.taskDecorator.decorate(() -> {
+            LocaleContextHolder.getLocale();
+            LocaleContextHolder.getLocale();
+            assertInstanceOf(SimpleLocaleContext.class, LocaleContextHolder.getLocaleContext());
+        });
+
+        this.executor.submit(task).get();
+
+        assertEquals(1, resolved.get());
+    }
+
+    @Test
+    void test_snapshot() {
+        LocaleContext localeContext = new SimpleLocaleContext(Locale.forLanguageTag("de"));
+
+        assertNull(RequestURILocaleTaskDecorator.snapshot(null));
+        assertSame(localeContext, RequestURILocaleTaskDecorator.snapshot(localeContext));
+    }
+
+    @Test
+    void test_snapshot_timeZone() {
+        LocaleContext localeContext = new TimeZoneAwareLocaleContext() {
+            @Override
+            public Locale getLocale() {
+                return Locale.forLanguageTag("de");
+            }
+
+            @Override
+            public TimeZone getTimeZone() {
+                return TimeZone.getTimeZone("Europe/Berlin");
+            }
+        };
+
+        LocaleContext snapshot = RequestURILocaleTaskDecorator.snapshot(localeContext);
+
+        assertInstanceOf(SimpleTimeZoneAwareLocaleContext.class, snapshot);
+        assertEquals(Locale.forLanguageTag("de"), snapshot.getLocale());
+        assertEquals(TimeZone.getTimeZone("Europe/Berlin"), ((TimeZoneAwareLocaleContext) snapshot).getTimeZone());
+    }
+}
@@ -0,0 +1,215 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright 2024-2025 André Laugks <alaugks@gmail.com>
+
+package io.github.alaugks.spring.requesturilocaleinterceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.context.i18n.SimpleLocaleContext;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+class RequestURILocaleWebFilterTest {
+
+    static List<Locale> supportedLocales = List.of(
+        Locale.forLanguageTag("en"),
+        Locale.forLanguageTag("en-US"),
+        Locale.forLanguageTag("de")
+    );
+
+    RequestURILocaleWebFilter webFilter = new RequestURILocaleWebFilter(
+        RequestURILocaleInterceptor
+            .builder(Locale.forLanguageTag("en"))
+            .supportedLocales(supportedLocales)
+            .defaultRequestURI("/%s/home")
+    );
+    RequestURILocaleContextResolver localeContextResolver = new RequestURILocaleContextResolver();
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_locale")
+    void test_locale(String requestUri, String expected) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.method(HttpMethod.GET, URI.create(requestUri)));
+        AtomicBoolean chained = new AtomicBoolean();
+        WebFilterChain chain = e -> {
+            chained.set(true);
+            return Mono.empty();
+        };
+
+        this.webFilter.filter(exchange, chain).block();
+
+        assertTrue(chained.get());
+        assertNull(exchange.getResponse().getStatusCode());
+        assertEquals(expected, this.localeContextResolver.resolveLocaleContext(exchange).getLocale().toLanguageTag());
+    }
+
+    private static Stream<Arguments> dataProvider_locale() {
+        return Stream.of(
+            // (String requestUri, String expected)
+            Arguments.of("/en/home", "en"),
+            Arguments.of("/en-us/home/", "en-US"),
+            Arguments.of("/de?a=b", "de")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider_redirect")
+    void test_redirect(String requestUri, String expected) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.method(HttpMethod.GET, URI.create(requestUri)));
+        AtomicBoolean chained = new AtomicBoolean();
+        WebFilterChain chain = e -> {
+            chained.set(true);
+            return Mono.empty();
+        };
+
+        this.webFilter.filter(exchange, chain).block();
+
+        assertFalse(chained.get());
+        assertEquals(HttpStatus.FOUND, exchange.getResponse().getStatusCode());
+        assertEquals(expected, exchange.getResponse().getHeaders().getFirst(HttpHeaders.LOCATION));
+    }
+
+    private static Stream<Arguments> dataProvider_redirect() {
+        return Stream.of(
+            // (String requestUri, String expected)
+            Arguments.of("/it/home", "/en/home"),
+            Arguments.of("/it/home/", "/en/home/"),
+            Arguments.of("/it/home?a=b&c=%20", "/en/home?a=b&c=%20"),
+            Arguments.of("/", "/en/home"),
+            Arguments.of("/it", "/en/home")
+        );
+    }
+
+    @Test
+    void test_redirectPolicy() {
+        RequestURILocaleWebFilter webFilter = new RequestURILocaleWebFilter(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(supportedLocales)
+                .acceptLanguageRedirect(true)
+                .redirectPolicy(
+                    RedirectPolicy.builder()
+                        .status(HttpStatus.PERMANENT_REDIRECT)
+                        .cacheControl(CacheControl.maxAge(Duration.ofMinutes(10)))
+                        .expires(Duration.ofMinutes(10))
+                        .absoluteLocation(true)
+                        .build()
+                )
+        );
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest
+                .method(HttpMethod.GET, URI.create("https://example.com:8443/it/home?a=b"))
+                .header(HttpHeaders.ACCEPT_LANGUAGE, "de")
+        );
+
+        webFilter.filter(exchange, e -> Mono.empty()).block();
+
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        assertEquals(HttpStatus.PERMANENT_REDIRECT, exchange.getResponse().getStatusCode());
+        assertEquals("https://example.com:8443/de/home?a=b", headers.getFirst(HttpHeaders.LOCATION));
+        assertEquals("max-age=600", headers.getCacheControl());
+        assertTrue(headers.getExpires() > System.currentTimeMillis());
+        assertEquals("Accept-Language", headers.getFirst(HttpHeaders.VARY));
+    }
+
+    @Test
+    void test_alternateLinks() {
+        RequestURILocaleWebFilter webFilter = new RequestURILocaleWebFilter(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(List.of(Locale.forLanguageTag("en"), Locale.forLanguageTag("de")))
+                .alternateLinks(true)
+        );
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.method(HttpMethod.GET, URI.create("/de/products?a=b"))
+        );
+
+        webFilter.filter(exchange, e -> Mono.empty()).block();
+
+        assertEquals(
+            "</en/products>; rel=\"alternate\"; hreflang=\"en\", "
+                + "</de/products>; rel=\"alternate\"; hreflang=\"de\", "
+                + "</en/products>; rel=\"alternate\"; hreflang=\"x-default\"",
+            exchange.getResponse().getHeaders().getFirst(HttpHeaders.LINK)
+        );
+    }
+
+    @Test
+    void test_stripLocale() {
+        RequestURILocaleWebFilter webFilter = new RequestURILocaleWebFilter(
+            RequestURILocaleInterceptor
+                .builder(Locale.forLanguageTag("en"))
+                .supportedLocales(supportedLocales)
+                .stripLocale(true)
+        );
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.method(HttpMethod.GET, URI.create("/de/products/a%20b?a=b"))
+        );
+        AtomicReference<ServerWebExchange> chained = new AtomicReference<>();
+        WebFilterChain chain = e -> {
+            chained.set(e);
+            return Mono.empty();
+        };
+
+        webFilter.filter(exchange, chain).block();
+
+        ServerWebExchange filtered = chained.get();
+        assertEquals("/products/a%20b", filtered.getRequest().getPath().value());
+        assertEquals("a=b", filtered.getRequest().getURI().getRawQuery());
+        assertEquals("/products/a%20b", filtered.getAttribute(RequestURILocaleInterceptor.PATH_ATTRIBUTE));
+        assertEquals(Locale.forLanguageTag("de"), filtered.getAttribute(RequestURILocaleInterceptor.LOCALE_ATTRIBUTE));
+        assertEquals(
+            Locale.forLanguageTag("de"),
+            this.localeContextResolver.resolveLocaleContext(filtered).getLocale()
+        );
+    }
+
+    @Test
+    void test_localeContextResolver_acceptLanguage() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/").header(HttpHeaders.ACCEPT_LANGUAGE, "de-CH, de;q=0.9")
+        );
+
+        assertEquals("de-CH", this.localeContextResolver.resolveLocaleContext(exchange).getLocale().toLanguageTag());
+    }
+
+    @Test
+    void test_localeContextResolver_defaultLocale() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+        this.localeContextResolver.setDefaultLocale(Locale.forLanguageTag("de"));
+
+        assertEquals("de", this.localeContextResolver.resolveLocaleContext(exchange).getLocale().toLanguageTag());
+    }
+
+    @Test
+    void test_localeContextResolver_setLocaleContext() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+        this.localeContextResolver.setDefaultLocale(Locale.forLanguageTag("de"));
+
+        this.localeContextResolver.setLocaleContext(exchange, new SimpleLocaleContext(Locale.forLanguageTag("en")));
+        assertEquals("en", this.localeContextResolver.resolveLocaleContext(exchange).getLocale().toLanguageTag());
+
+        this.localeContextResolver.setLocaleContext(exchange, null);
+        assertEquals("de", this.localeContextResolver.resolveLocaleContext(exchange).getLocale().toLanguageTag());
+    }
+}
@@ -4,13 +4,20 @@
 package io.github.alaugks.spring.requesturilocaleinterceptor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import io.github.alaugks.spring.requesturilocaleinterceptor.mocks.MockHttpServletRequest;
 import java.util.Locale;
+import java.util.TimeZone;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.i18n.SimpleLocaleContext;
+import org.springframework.context.i18n.SimpleTimeZoneAwareLocaleContext;
+import org.springframework.context.i18n.TimeZoneAwareLocaleContext;
 import org.springframework.mock.web.MockHttpServletResponse;
 
 class RequestURIResolverTest {
@@ -39,17 +46,91 @@ class RequestURIResolverTest {
 
     @Test
     void test_resolveLocale_withEmptyRequestLocale() {
-        String userLanguage = System.getProperty("user.language");
-        this.localResolver.setLocale(new MockHttpServletRequest(), this.mockResponse, null);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        this.localResolver.setLocale(request, this.mockResponse, null);
 
-        assertEquals(userLanguage, this.localResolver.resolveLocale(this.mockRequest).toString());
+        assertEquals("", this.localResolver.resolveLocale(request).toString());
+    }
+
+    @Test
+    void test_resolveLocale_withAcceptLanguage() {
+        this.mockRequest.addPreferredLocale(Locale.forLanguageTag("de-CH"));
+
+        assertEquals("de_CH", this.localResolver.resolveLocale(this.mockRequest).toString());
     }
 
     @Test
     void test_resolveLocale_withLocale() {
         Locale locale = Locale.forLanguageTag("en-UK");
-        this.localResolver.setLocale(new MockHttpServletRequest(), this.mockResponse, locale);
+        this.localResolver.setLocale(this.mockRequest, this.mockResponse, locale);
 
         assertEquals("en_UK", this.localResolver.resolveLocale(this.mockRequest).toString());
     }
+
+    @Test
+    void test_resolveLocale_isRequestScoped() {
+        org.springframework.mock.web.MockHttpServletRequest otherRequest =
+            new org.springframework.mock.web.MockHttpServletRequest();
+        otherRequest.addPreferredLocale(Locale.forLanguageTag("fr"));
+        this.localResolver.setLocale(this.mockRequest, this.mockResponse, Locale.forLanguageTag("de"));
+
+        assertEquals("fr", this.localResolver.resolveLocale(otherRequest).toString());
+        assertEquals("de", this.localResolver.resolveLocale(this.mockRequest).toString());
+    }
+
+    @Test
+    void test_resolveLocaleContext_lazy() {
+        this.localResolver.setDefaultTimeZone(TimeZone.getTimeZone("Europe/Berlin"));
+        LocaleContext localeContext = this.localResolver.resolveLocaleContext(this.mockRequest);
+        this.localResolver.setLocale(this.mockRequest, this.mockResponse, Locale.forLanguageTag("de"));
+
+        assertEquals(Locale.forLanguageTag("de"), localeContext.getLocale());
+        assertEquals(
+            TimeZone.getTimeZone("Europe/Berlin"),
+            ((TimeZoneAwareLocaleContext) localeContext).getTimeZone()
+        );
+    }
+
+    @Test
+    void test_resolveLocaleContext_published() {
+        LocaleContext published = new SimpleTimeZoneAwareLocaleContext(
+            Locale.forLanguageTag("de"),
+            TimeZone.getTimeZone("Europe/Berlin")
+        );
+        this.mockRequest.setAttribute(RequestURILocaleResolver.LOCALE_CONTEXT_ATTRIBUTE, published);
+
+        assertSame(published, this.localResolver.resolveLocaleContext(this.mockRequest));
+    }
+
+    @Test
+    void test_setLocale_published() {
+        this.mockRequest.setAttribute(
+            RequestURILocaleResolver.LOCALE_CONTEXT_ATTRIBUTE,
+            new SimpleTimeZoneAwareLocaleContext(Locale.forLanguageTag("de"), TimeZone.getTimeZone("Europe/Berlin"))
+        );
+        try {
+            this.localResolver.setLocale(this.mockRequest, this.mockResponse, Locale.forLanguageTag("it"));
+
+            LocaleContext localeContext = this.localResolver.resolveLocaleContext(this.mockRequest);
+            assertEquals(Locale.forLanguageTag("it"), localeContext.getLocale());
+            assertEquals(
+                TimeZone.getTimeZone("Europe/Berlin"),
+                ((TimeZoneAwareLocaleContext) localeContext).getTimeZone()
+            );
+            assertSame(localeContext, LocaleContextHolder.getLocaleContext());
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
+    }
+
+    @Test
+    void test_setLocaleContext() {
+        this.localResolver.setLocaleContext(
+            this.mockRequest,
+            this.mockResponse,
+            new SimpleLocaleContext(Locale.forLanguageTag("de"))
+        );
+
+        assertEquals("de", this.localResolver.resolveLocale(this.mockRequest).toString());
+    }
 }